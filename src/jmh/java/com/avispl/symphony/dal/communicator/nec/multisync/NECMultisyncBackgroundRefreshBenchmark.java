@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+
+/**
+ * NECMultisyncBackgroundRefreshBenchmark samples the latency of getMultipleStatistics seen by the Symphony poller,
+ * against a slow display simulated by {@link NECMultisyncSimulator}: refreshed on the polling thread
+ * (statisticsMaxAge 0), and served from the snapshot while it is refreshed in the background (statisticsMaxAge 1).
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NECMultisyncBackgroundRefreshBenchmark {
+
+	/**
+	 * Time in milliseconds the simulated display takes to answer each command
+	 */
+	@Param({ "150" })
+	public int latency;
+
+	/**
+	 * statisticsMaxAge of the adapter, 0 refreshes on the polling thread
+	 */
+	@Param({ "0", "1" })
+	public int statisticsMaxAge;
+
+	private NECMultisyncSimulator simulator;
+	private NECMultisyncDevice necMultisyncDevice;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		simulator = new NECMultisyncSimulator(0, 1);
+		simulator.setLatency(latency, 0);
+		necMultisyncDevice = new NECMultisyncDevice();
+		necMultisyncDevice.setHost("127.0.0.1");
+		necMultisyncDevice.setPort(simulator.getPort());
+		necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+		necMultisyncDevice.setStatisticsMaxAge(statisticsMaxAge);
+		necMultisyncDevice.init();
+		necMultisyncDevice.getMultipleStatistics();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		necMultisyncDevice.destroy();
+		simulator.close();
+	}
+
+	@Benchmark
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		return necMultisyncDevice.getMultipleStatistics();
+	}
+}
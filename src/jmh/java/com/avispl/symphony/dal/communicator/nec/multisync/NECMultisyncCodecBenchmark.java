@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * NECMultisyncCodecBenchmark measures the frame encoder, the checksum and the diagnosis name lookup.
+ * buildSendString allocates the frame it returns, the other benchmarks are expected not to allocate.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NECMultisyncCodecBenchmark {
+
+	/**
+	 * Diagnosis names looked up: first and last entries, and a name of no entry
+	 */
+	@State(Scope.Thread)
+	public static class Diagnosis {
+		@Param({ "NORMAL", "STRONG_IMPACT", "NOT_A_DIAGNOSIS" })
+		public String name;
+	}
+
+	private byte monitorID;
+	private byte[] inputParam;
+	private byte[] frame;
+
+	@Setup
+	public void setUp() {
+		monitorID = (byte) 0x41;
+		inputParam = new byte[] { 0x30, 0x30, 0x31, 0x31 };
+		frame = NECMultisyncUtils.buildSendString(monitorID, NECMultisyncConstants.MSG_TYPE_SET, NECMultisyncConstants.CMD_SET_INPUT, inputParam);
+	}
+
+	@Benchmark
+	public byte[] buildGetPower() {
+		return NECMultisyncUtils.buildSendString(monitorID, NECMultisyncConstants.MSG_TYPE_CMD, NECMultisyncConstants.CMD_GET_POWER);
+	}
+
+	@Benchmark
+	public byte[] buildSetInput() {
+		return NECMultisyncUtils.buildSendString(monitorID, NECMultisyncConstants.MSG_TYPE_SET, NECMultisyncConstants.CMD_SET_INPUT, inputParam);
+	}
+
+	@Benchmark
+	public byte xor() {
+		return NECMultisyncUtils.xor(frame);
+	}
+
+	@Benchmark
+	public String getDiagnosisValue(Diagnosis diagnosis) {
+		return NECMultisyncDiagnosisEnum.getValueByName(diagnosis.name);
+	}
+}
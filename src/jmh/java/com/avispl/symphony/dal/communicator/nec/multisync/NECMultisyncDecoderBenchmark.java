@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.responseValues;
+
+/**
+ * NECMultisyncDecoderBenchmark measures the reply decoder for every reply type polled by the adapter, and the reply
+ * classification digestResponse runs for every reply type, rejected and corrupted replies included.
+ * Run with the GC profiler (default for the jmh profile), gc.alloc.rate.norm is expected to stay at ~0 B/op.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NECMultisyncDecoderBenchmark {
+
+	/**
+	 * Reply of each type classified by {@link NECMultisyncResponseDecoder#getReplyType(byte[], int, int)}
+	 */
+	@State(Scope.Thread)
+	public static class Reply {
+		@Param({ "POWER_STATUS_READ", "POWER_CONTROL", "SELF_DIAG", "INPUT_STATUS_READ", "GET_TEMPERATURE", "SENSOR_SELECT", "UNSUPPORTED",
+				"RESULT_ERROR", "CHECKSUM_ERROR", "MALFORMED" })
+		public responseValues type;
+
+		private byte[] bytes;
+
+		@Setup
+		public void setUp() {
+			switch (type) {
+				case POWER_STATUS_READ:
+					bytes = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "0200D60000040001");
+					break;
+				case POWER_CONTROL:
+					bytes = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "00C203D60001");
+					break;
+				case SELF_DIAG:
+					bytes = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "A100");
+					break;
+				case INPUT_STATUS_READ:
+					bytes = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "0000600000880011");
+					break;
+				case GET_TEMPERATURE:
+					bytes = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "00027900FFFF0050");
+					break;
+				case SENSOR_SELECT:
+					bytes = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_SET_REPLY, "00027800000A0001");
+					break;
+				case UNSUPPORTED:
+					bytes = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "01C203D60001");
+					break;
+				case RESULT_ERROR:
+					bytes = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "01027900FFFF0050");
+					break;
+				case CHECKSUM_ERROR:
+					bytes = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "A100");
+					bytes[bytes.length - 2] ^= 0x01;
+					break;
+				default:
+					bytes = new byte[] { 0x01, 0x30 };
+			}
+			if (NECMultisyncResponseDecoder.getReplyType(bytes, 0, bytes.length) != type) {
+				throw new IllegalStateException("Reply built for " + type + " is not classified as such");
+			}
+		}
+	}
+
+	private byte[] powerReply;
+	private byte[] diagReply;
+	private byte[] inputReply;
+	private byte[] temperatureReply;
+
+	@Setup
+	public void setUp() {
+		powerReply = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "0200D60000040001");
+		diagReply = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "A100");
+		inputReply = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "0000600000880011");
+		temperatureReply = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "00027900FFFF0050");
+	}
+
+	@Benchmark
+	public responseValues classifyReply(Reply reply) {
+		return NECMultisyncResponseDecoder.getReplyType(reply.bytes, 0, reply.bytes.length);
+	}
+
+	@Benchmark
+	public void decodePowerStatus(Blackhole blackhole) {
+		blackhole.consume(NECMultisyncResponseDecoder.getReplyType(powerReply, 0, powerReply.length) == responseValues.POWER_STATUS_READ
+				? NECMultisyncResponseDecoder.getPowerStatus(powerReply, 0) : null);
+	}
+
+	@Benchmark
+	public void decodeSelfDiag(Blackhole blackhole) {
+		blackhole.consume(NECMultisyncResponseDecoder.getReplyType(diagReply, 0, diagReply.length) == responseValues.SELF_DIAG
+				? NECMultisyncResponseDecoder.getDiagResult(diagReply, 0) : null);
+	}
+
+	@Benchmark
+	public void decodeInput(Blackhole blackhole) {
+		blackhole.consume(NECMultisyncResponseDecoder.getReplyType(inputReply, 0, inputReply.length) == responseValues.INPUT_STATUS_READ
+				? NECMultisyncResponseDecoder.getInput(inputReply, 0) : null);
+	}
+
+	@Benchmark
+	public int decodeTemperature() {
+		return NECMultisyncResponseDecoder.getReplyType(temperatureReply, 0, temperatureReply.length) == responseValues.GET_TEMPERATURE
+				? NECMultisyncResponseDecoder.getTemperature(temperatureReply, 0) : -1;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+
+/**
+ * NECMultisyncStatisticsBenchmark measures a full statistics cycle of {@link NECMultisyncDevice}, every property
+ * refreshed in each cycle, against displays simulated in process by {@link NECMultisyncSimulator} on the loopback
+ * interface without latency. The cycle rate is bound by the loopback round trips, the allocation rate covers
+ * encoding, decoding and building the statistics.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NECMultisyncStatisticsBenchmark {
+
+	/**
+	 * Number of displays polled in each cycle, more than one is a daisy chain
+	 */
+	@Param({ "1", "8" })
+	public int displays;
+
+	private NECMultisyncSimulator simulator;
+	private NECMultisyncDevice necMultisyncDevice;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		int[] monitorIDs = new int[displays];
+		for (int i = 0; i < displays; i++) {
+			monitorIDs[i] = i + 1;
+		}
+		simulator = new NECMultisyncSimulator(0, monitorIDs);
+		necMultisyncDevice = new NECMultisyncDevice();
+		necMultisyncDevice.setHost("127.0.0.1");
+		necMultisyncDevice.setPort(simulator.getPort());
+		if (displays > 1) {
+			necMultisyncDevice.setMonitorIDs("1-" + displays);
+		}
+		necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+		necMultisyncDevice.init();
+		necMultisyncDevice.getMultipleStatistics();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		necMultisyncDevice.destroy();
+		simulator.close();
+	}
+
+	@Benchmark
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		return necMultisyncDevice.getMultipleStatistics();
+	}
+}
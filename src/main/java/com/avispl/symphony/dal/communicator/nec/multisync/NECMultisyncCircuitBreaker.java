@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+/**
+ * Circuit breaker of the connection of one {@link NECMultisyncDevice}. After a number of consecutive statistics cycles
+ * failed without any reply from the display, the circuit opens: cycles fail fast, without any frame sent, until a probe
+ * is due. The probe is a single power status query; if the display replies the circuit closes, otherwise the interval
+ * to the next probe is doubled, up to {@link NECMultisyncConstants#MAX_PROBE_INTERVAL}.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+final class NECMultisyncCircuitBreaker {
+
+    /**
+     * State of the circuit
+     */
+    enum State {CLOSED, OPEN, HALF_OPEN}
+
+    private int failureThreshold = NECMultisyncConstants.DEFAULT_CIRCUIT_BREAKER_THRESHOLD;
+    private long probeInterval = NECMultisyncConstants.DEFAULT_PROBE_INTERVAL;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long backoff;
+    private long nextProbe;
+    private long openCount;
+
+    /**
+     * Sets the number of consecutive failures opening the circuit
+     *
+     * @param failureThreshold number of failures, 0 disables the circuit breaker
+     */
+    synchronized void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = Math.max(0, failureThreshold);
+        if (this.failureThreshold == 0) {
+            onSuccess();
+        }
+    }
+
+    /**
+     * Sets the interval between the circuit opening and the first probe, doubled after each failed probe
+     *
+     * @param probeInterval interval in milliseconds
+     */
+    synchronized void setProbeInterval(long probeInterval) {
+        this.probeInterval = Math.max(0, probeInterval);
+    }
+
+    /**
+     * Checks whether a statistics cycle may be run. Once the next probe is due, the circuit is half open:
+     * the cycle has to probe the display first.
+     *
+     * @param now current time in milliseconds
+     * @return State {@link State#CLOSED} if the cycle may run, {@link State#HALF_OPEN} if it has to probe first,
+     * {@link State#OPEN} if it has to fail fast
+     */
+    synchronized State check(long now) {
+        if (state == State.OPEN && now >= nextProbe) {
+            state = State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Records a successful cycle or probe, the circuit closes
+     */
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        backoff = 0;
+    }
+
+    /**
+     * Records a failed cycle or probe
+     *
+     * @param now current time in milliseconds
+     */
+    synchronized void onFailure(long now) {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN) {
+            backoff = Math.min(NECMultisyncConstants.MAX_PROBE_INTERVAL, Math.max(probeInterval, backoff * 2));
+        } else if (state == State.CLOSED && failureThreshold > 0 && consecutiveFailures >= failureThreshold) {
+            backoff = Math.min(NECMultisyncConstants.MAX_PROBE_INTERVAL, probeInterval);
+            openCount++;
+        } else {
+            return;
+        }
+        state = State.OPEN;
+        nextProbe = now + backoff;
+    }
+
+    /**
+     * Retrieves the state of the circuit
+     *
+     * @return State current state, not updated for a due probe until {@link #check(long)} is called
+     */
+    synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Retrieves the time of the next probe
+     *
+     * @return long time in milliseconds the next probe is due at, meaningless while the circuit is closed
+     */
+    synchronized long getNextProbe() {
+        return nextProbe;
+    }
+
+    /**
+     * Retrieves the number of times the circuit opened
+     *
+     * @return long number of times the failure threshold was reached
+     */
+    synchronized long getOpenCount() {
+        return openCount;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.responseValues;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counters and latency histograms of the frames exchanged with the displays of one {@link NECMultisyncDevice},
+ * by command: the reply latency, timeouts, corrupted replies and unsupported results of each command, and the number
+ * of times the connection was reopened. Recorded by {@link NECMultisyncConnection} on every reply, without allocation;
+ * a device with metrics disabled has no instance, so nothing is recorded.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+final class NECMultisyncCommandMetrics {
+
+    /**
+     * Command of a frame, in reporting order. Power and input changes, from controls or their confirmation, are controls.
+     */
+    enum Command {Power, Diagnosis, Input, SensorSelect, Temperature, Control}
+
+    private static final Command[] COMMANDS = Command.values();
+    private static final int MESSAGE_OFFSET = 8;
+
+    private final NECMultisyncHistogram[] latencies = new NECMultisyncHistogram[COMMANDS.length];
+    private final AtomicLongArray timeouts = new AtomicLongArray(COMMANDS.length);
+    private final AtomicLongArray checksumErrors = new AtomicLongArray(COMMANDS.length);
+    private final AtomicLongArray unsupported = new AtomicLongArray(COMMANDS.length);
+    private final AtomicLong reconnects = new AtomicLong();
+
+    /**
+     * Constructor for NECMultisyncCommandMetrics
+     */
+    NECMultisyncCommandMetrics() {
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new NECMultisyncHistogram();
+        }
+    }
+
+    /**
+     * Retrieves the command of a frame
+     *
+     * @param frame frame sent to a display
+     * @return Command command of the frame, {@link Command#Control} for anything but a monitoring query
+     */
+    static Command getCommand(byte[] frame) {
+        byte messageType = frame[4];
+        if (messageType == NECMultisyncConstants.MSG_TYPE_CMD) {
+            if (hasOpcode(frame, NECMultisyncConstants.CMD_GET_POWER)) {
+                return Command.Power;
+            }
+            return hasOpcode(frame, NECMultisyncConstants.CMD_SELF_DIAG) ? Command.Diagnosis : Command.Control;
+        }
+        if (messageType == NECMultisyncConstants.MSG_TYPE_GET) {
+            if (hasOpcode(frame, NECMultisyncConstants.CMD_GET_INPUT)) {
+                return Command.Input;
+            }
+            return hasOpcode(frame, NECMultisyncConstants.CMD_GET_TEMP) ? Command.Temperature : Command.Control;
+        }
+        return messageType == NECMultisyncConstants.MSG_TYPE_SET && hasOpcode(frame, NECMultisyncConstants.CMD_SET_SENSOR)
+                ? Command.SensorSelect : Command.Control;
+    }
+
+    /**
+     * Records the reply to a frame
+     *
+     * @param frame frame sent
+     * @param replyType type of the reply
+     * @param nanos time from the frame being sent to its reply being received, in nanoseconds
+     */
+    void onReply(byte[] frame, responseValues replyType, long nanos) {
+        int command = getCommand(frame).ordinal();
+        latencies[command].record(nanos);
+        if (replyType == responseValues.CHECKSUM_ERROR || replyType == responseValues.MALFORMED) {
+            checksumErrors.incrementAndGet(command);
+        } else if (replyType == responseValues.UNSUPPORTED || replyType == responseValues.RESULT_ERROR) {
+            unsupported.incrementAndGet(command);
+        }
+    }
+
+    /**
+     * Records a frame without reply
+     *
+     * @param frame frame sent
+     */
+    void onTimeout(byte[] frame) {
+        timeouts.incrementAndGet(getCommand(frame).ordinal());
+    }
+
+    /**
+     * Records the connection being reopened after it was closed or lost
+     */
+    void onReconnect() {
+        reconnects.incrementAndGet();
+    }
+
+    /**
+     * Clears every counter and histogram. Frames recorded while resetting may be partially kept.
+     */
+    void reset() {
+        for (int i = 0; i < COMMANDS.length; i++) {
+            latencies[i].reset();
+            timeouts.set(i, 0);
+            checksumErrors.set(i, 0);
+            unsupported.set(i, 0);
+        }
+        reconnects.set(0);
+    }
+
+    /**
+     * Retrieves the reply latencies of a command
+     *
+     * @param command command
+     * @return NECMultisyncHistogram latency of every reply, rejected and corrupted replies included
+     */
+    NECMultisyncHistogram getLatencies(Command command) {
+        return latencies[command.ordinal()];
+    }
+
+    /**
+     * Retrieves the number of frames of a command without reply
+     *
+     * @param command command
+     * @return long number of timeouts
+     */
+    long getTimeoutCount(Command command) {
+        return timeouts.get(command.ordinal());
+    }
+
+    /**
+     * Retrieves the number of corrupted replies to a command
+     *
+     * @param command command
+     * @return long number of replies with a wrong check code or broken
+     */
+    long getChecksumErrorCount(Command command) {
+        return checksumErrors.get(command.ordinal());
+    }
+
+    /**
+     * Retrieves the number of replies refusing a command
+     *
+     * @param command command
+     * @return long number of unsupported and error results
+     */
+    long getUnsupportedCount(Command command) {
+        return unsupported.get(command.ordinal());
+    }
+
+    /**
+     * Retrieves the number of times the connection was reopened
+     *
+     * @return long number of reconnections
+     */
+    long getReconnectCount() {
+        return reconnects.get();
+    }
+
+    /**
+     * Adds the metrics to the statistics, in the {@link NECMultisyncConstants#GROUP_ADAPTER_METRICS} group.
+     * Commands never sent are left out.
+     *
+     * @param statistics statistics of the cycle
+     */
+    void addStatistics(Map<String, String> statistics) {
+        statistics.put(NECMultisyncConstants.GROUP_ADAPTER_METRICS + NECMultisyncConstants.METRIC_RECONNECTS, String.valueOf(getReconnectCount()));
+        for (Command command : COMMANDS) {
+            NECMultisyncHistogram latency = getLatencies(command);
+            long requests = latency.getCount() + getTimeoutCount(command);
+            if (requests == 0) {
+                continue;
+            }
+            String prefix = NECMultisyncConstants.GROUP_ADAPTER_METRICS + command.name();
+            statistics.put(prefix + NECMultisyncConstants.METRIC_REQUESTS, String.valueOf(requests));
+            statistics.put(prefix + NECMultisyncConstants.METRIC_LATENCY_P50, toMillis(latency.getPercentile(50)));
+            statistics.put(prefix + NECMultisyncConstants.METRIC_LATENCY_P99, toMillis(latency.getPercentile(99)));
+            statistics.put(prefix + NECMultisyncConstants.METRIC_TIMEOUTS, String.valueOf(getTimeoutCount(command)));
+            statistics.put(prefix + NECMultisyncConstants.METRIC_CHECKSUM_ERRORS, String.valueOf(getChecksumErrorCount(command)));
+            statistics.put(prefix + NECMultisyncConstants.METRIC_UNSUPPORTED, String.valueOf(getUnsupportedCount(command)));
+        }
+    }
+
+    /**
+     * Formats a latency in milliseconds with a tenth of millisecond resolution
+     *
+     * @param micros latency in microseconds
+     * @return String latency in milliseconds
+     */
+    private static String toMillis(long micros) {
+        return String.valueOf(Math.round(micros / (double) TimeUnit.MILLISECONDS.toMicros(1) * 10) / 10.0);
+    }
+
+    /**
+     * Checks the opcode at the start of the message of a frame
+     *
+     * @param frame frame sent
+     * @param opcode opcode, as ASCII characters
+     * @return boolean true if the message starts with the opcode
+     */
+    private static boolean hasOpcode(byte[] frame, byte[] opcode) {
+        if (frame.length < MESSAGE_OFFSET + opcode.length) {
+            return false;
+        }
+        for (int i = 0; i < opcode.length; i++) {
+            if (frame[MESSAGE_OFFSET + i] != opcode[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
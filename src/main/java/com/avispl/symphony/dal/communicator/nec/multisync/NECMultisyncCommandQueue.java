@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Priority queue for the connection of one {@link NECMultisyncDevice}. Every command, control or monitoring query,
+ * is sent while holding the queue; waiting commands are served by priority, then in arrival order.
+ * A statistics cycle holds the queue for all of its queries, and hands it over at each frame boundary
+ * (see {@link #yieldToControls()}) so a control issued meanwhile waits for one frame instead of the whole cycle.
+ * The queue depth and the time commands waited for the queue are recorded for monitoring.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+final class NECMultisyncCommandQueue {
+
+    /**
+     * Priority of a command, in serving order
+     */
+    enum Priority {CONTROL, BACKGROUND}
+
+    /**
+     * Command waiting for the queue
+     */
+    private static final class Ticket {
+        private final int priority;
+        private final long sequence;
+
+        private Ticket(int priority, long sequence) {
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+
+    private final PriorityQueue<Ticket> waiting = new PriorityQueue<>(
+            Comparator.comparingInt((Ticket ticket) -> ticket.priority).thenComparingLong(ticket -> ticket.sequence));
+    private final NECMultisyncHistogram[] waitTimes = new NECMultisyncHistogram[Priority.values().length];
+    private boolean held;
+    private long sequence;
+    private long preemptions;
+
+    /**
+     * Constructor for NECMultisyncCommandQueue
+     */
+    NECMultisyncCommandQueue() {
+        for (int i = 0; i < waitTimes.length; i++) {
+            waitTimes[i] = new NECMultisyncHistogram();
+        }
+    }
+
+    /**
+     * Waits for the queue, commands of higher priority waiting meanwhile are served first.
+     * The wait is not interruptible, the interrupt status is restored once the queue is acquired.
+     *
+     * @param priority priority of the command
+     */
+    synchronized void acquire(Priority priority) {
+        acquire(priority.ordinal(), sequence++);
+    }
+
+    /**
+     * Acquires the queue if it is free and no command is waiting for it
+     *
+     * @param priority priority of the command
+     * @return boolean true if the queue was acquired
+     */
+    synchronized boolean tryAcquire(Priority priority) {
+        if (held || !waiting.isEmpty()) {
+            return false;
+        }
+        held = true;
+        waitTimes[priority.ordinal()].record(0);
+        return true;
+    }
+
+    /**
+     * Releases the queue, the next waiting command is served
+     */
+    synchronized void release() {
+        held = false;
+        notifyAll();
+    }
+
+    /**
+     * Frame boundary of a background command: if controls are waiting, the queue is handed over to them and
+     * acquired back once they are done, ahead of other background commands.
+     *
+     * @return boolean true if controls were served meanwhile, the state they changed must be accounted for
+     */
+    synchronized boolean yieldToControls() {
+        Ticket next = waiting.peek();
+        if (next == null || next.priority != Priority.CONTROL.ordinal()) {
+            return false;
+        }
+        preemptions++;
+        release();
+        acquire(Priority.BACKGROUND.ordinal(), Long.MIN_VALUE);
+        return true;
+    }
+
+    /**
+     * Waits until the queue is free and the given command is the next one to serve
+     *
+     * @param priority priority of the command
+     * @param order position of the command among the commands of the same priority
+     */
+    private void acquire(int priority, long order) {
+        if (!held && waiting.isEmpty()) {
+            held = true;
+            waitTimes[priority].record(0);
+            return;
+        }
+        Ticket ticket = new Ticket(priority, order);
+        waiting.add(ticket);
+        long startTime = System.nanoTime();
+        boolean interrupted = false;
+        while (held || waiting.peek() != ticket) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        waiting.poll();
+        held = true;
+        waitTimes[priority].record(System.nanoTime() - startTime);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Retrieves the number of commands waiting for the queue
+     *
+     * @return int queue depth, the command holding the queue excluded
+     */
+    synchronized int getDepth() {
+        return waiting.size();
+    }
+
+    /**
+     * Retrieves the number of times a background command handed the queue over to controls
+     *
+     * @return long number of preemptions
+     */
+    synchronized long getPreemptionCount() {
+        return preemptions;
+    }
+
+    /**
+     * Retrieves the time commands of a priority waited for the queue
+     *
+     * @param priority priority of the commands
+     * @return NECMultisyncHistogram wait times, commands served at once are recorded with no wait
+     */
+    NECMultisyncHistogram getWaitTimes(Priority priority) {
+        return waitTimes[priority.ordinal()];
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.responseValues;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+
+/**
+ * TCP connection to a NEC MultiSync display (or to the head unit of a daisy chain).
+ * Replies are read with {@link NECMultisyncFrameReader}, so a call returns as soon as a complete frame is received.
+ * Frames are paced by the {@link NECMultisyncPacer} of the owning device, and the round trip time of each reply feeds
+ * its {@link NECMultisyncRttEstimator}, both learn from the replies read here.
+ * A frame whose reply is corrupted (wrong check code or broken frame) is sent again, up to
+ * {@link NECMultisyncConstants#MAX_FRAME_RETRIES} times, without closing the connection: the reader resynchronizes
+ * on the next frame by itself. Check code errors, resynchronizations and retries are counted, so flaky serial to IP
+ * bridges can be identified. When the owning device has command metrics enabled, every reply and timeout is
+ * also recorded by command in its {@link NECMultisyncCommandMetrics}.
+ * A reply that missed its timeout may still arrive later and would be read as the reply of the next frame, so
+ * once a read timed out the connection is reopened before the next frame is sent.
+ * Writes and reads are serialized by the owning device; {@link #close()} may be called from any thread
+ * and unblocks a pending read or connection attempt.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class NECMultisyncConnection {
+
+    private final String host;
+    private final int port;
+    private final NECMultisyncPacer pacer;
+    private final NECMultisyncRttEstimator rttEstimator;
+    private volatile Socket socket;
+    private volatile Socket connectingSocket;
+    private OutputStream outputStream;
+    private NECMultisyncFrameReader reader;
+    private volatile int generation;
+    private boolean replyPending;
+    private volatile long checksumErrors;
+    private volatile long retries;
+    private volatile long closedReaderResyncs;
+    private volatile long sentFrames;
+    private volatile NECMultisyncCommandMetrics metrics;
+
+    /**
+     * Constructor for NECMultisyncConnection
+     *
+     * @param host display host name or IP address
+     * @param port display TCP port
+     * @param pacer pacer of the frames sent to the display
+     * @param rttEstimator estimator of the round trip time to the display, its ceiling is used as connection timeout
+     */
+    NECMultisyncConnection(String host, int port, NECMultisyncPacer pacer, NECMultisyncRttEstimator rttEstimator) {
+        this.host = host;
+        this.port = port;
+        this.pacer = pacer;
+        this.rttEstimator = rttEstimator;
+    }
+
+    /**
+     * Opens the connection if it is not open yet
+     *
+     * @throws IOException if the connection can't be established
+     */
+    synchronized void open() throws IOException {
+        if (isOpen()) {
+            return;
+        }
+        Socket newSocket = new Socket();
+        connectingSocket = newSocket;
+        try {
+            newSocket.connect(new InetSocketAddress(host, port), rttEstimator.getMaxTimeout());
+            newSocket.setTcpNoDelay(true);
+            newSocket.setSoTimeout(NECMultisyncConstants.SOCKET_TIMEOUT);
+            outputStream = newSocket.getOutputStream();
+            if (reader != null) {
+                closedReaderResyncs += reader.getResyncCount();
+            }
+            reader = new NECMultisyncFrameReader(newSocket.getInputStream());
+        } catch (IOException e) {
+            newSocket.close();
+            throw e;
+        } finally {
+            connectingSocket = null;
+        }
+        socket = newSocket;
+        replyPending = false;
+        NECMultisyncCommandMetrics currentMetrics = metrics;
+        if (generation > 0 && currentMetrics != null) {
+            currentMetrics.onReconnect();
+        }
+        generation++;
+    }
+
+    /**
+     * Sets {@link #metrics} value
+     *
+     * @param metrics new value of {@link #metrics}, null to record no command metrics
+     */
+    void setMetrics(NECMultisyncCommandMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Retrieves {@link #generation}
+     *
+     * @return value of {@link #generation}, incremented each time the connection is (re)opened
+     */
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Retrieves {@link #sentFrames}
+     *
+     * @return value of {@link #sentFrames}, number of frames sent over every connection opened, retries included
+     */
+    long getSentFrameCount() {
+        return sentFrames;
+    }
+
+    /**
+     * Retrieves {@link #checksumErrors}
+     *
+     * @return value of {@link #checksumErrors}, number of replies received with a wrong check code
+     */
+    long getChecksumErrorCount() {
+        return checksumErrors;
+    }
+
+    /**
+     * Retrieves {@link #retries}
+     *
+     * @return value of {@link #retries}, number of frames sent again after a corrupted reply
+     */
+    long getRetryCount() {
+        return retries;
+    }
+
+    /**
+     * Retrieves the number of times the reader resynchronized on a frame, over every connection opened
+     *
+     * @return long number of resynchronizations
+     */
+    long getResyncCount() {
+        NECMultisyncFrameReader current = reader;
+        return closedReaderResyncs + (current == null ? 0 : current.getResyncCount());
+    }
+
+    /**
+     * Checks whether the connection is open
+     *
+     * @return boolean true if the socket is connected and not closed
+     */
+    boolean isOpen() {
+        Socket current = socket;
+        return current != null && current.isConnected() && !current.isClosed();
+    }
+
+    /**
+     * Sends a frame and reads the reply, the frame is sent again if the reply is corrupted
+     *
+     * @param frame frame to send
+     * @param readTimeout maximum time in milliseconds to wait for the reply
+     * @return byte[] reply frame, corrupted only if every retry was
+     * @throws IOException if the connection is closed or broken, or if the reply timed out
+     */
+    synchronized byte[] exchange(byte[] frame, int readTimeout) throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            write(frame);
+            byte[] reply = read(frame, readTimeout, System.nanoTime(), true);
+            if (attempt >= NECMultisyncConstants.MAX_FRAME_RETRIES || !isCorrupted(reply)) {
+                return reply;
+            }
+            retries++;
+        }
+    }
+
+    /**
+     * Sends frames back-to-back, keeping up to {@code depth} frames without a reply in flight, and reads
+     * one reply per frame. The first frames are written with a single call, so they usually share one TCP segment.
+     *
+     * @param frames frames to send, in order
+     * @param depth maximum number of frames sent before their reply is received
+     * @param readTimeout maximum time in milliseconds to wait for each reply
+     * @return byte[][] reply frames, in the order they were received
+     * @throws IOException if the connection is closed or broken, or if a reply timed out
+     */
+    synchronized byte[][] exchangeAll(byte[][] frames, int depth, int readTimeout) throws IOException {
+        int window = Math.max(1, Math.min(depth, frames.length));
+        int length = 0;
+        for (int i = 0; i < window; i++) {
+            length += frames[i].length;
+        }
+        byte[] burst = new byte[length];
+        int offset = 0;
+        for (int i = 0; i < window; i++) {
+            System.arraycopy(frames[i], 0, burst, offset, frames[i].length);
+            offset += frames[i].length;
+        }
+        write(burst, window);
+        //each reply is timed from the write of its own frame
+        long[] sentAt = new long[frames.length];
+        Arrays.fill(sentAt, 0, window, System.nanoTime());
+        byte[][] replies = new byte[frames.length][];
+        for (int i = 0; i < frames.length; i++) {
+            //a reply queued behind other frames doesn't tell the round trip time, only unqueued replies are sampled
+            replies[i] = read(frames[i], readTimeout, sentAt[i], i == 0 || window == 1);
+            if (i + window < frames.length) {
+                write(frames[i + window]);
+                sentAt[i + window] = System.nanoTime();
+            }
+        }
+        return replies;
+    }
+
+    /**
+     * Sends frames one at a time and reads the reply of each. A frame without reply before the timeout is skipped,
+     * so one silent display doesn't fail the whole exchange: the connection is reopened before the next frame,
+     * so its late reply can't be taken for the reply of the next frame. A frame with a corrupted reply is sent again.
+     *
+     * @param frames frames to send, in order
+     * @param readTimeout maximum time in milliseconds to wait for each reply
+     * @return byte[][] reply frames, in the order they were received, null for each frame without reply
+     * @throws IOException if the connection is closed or broken
+     */
+    synchronized byte[][] exchangeEach(byte[][] frames, int readTimeout) throws IOException {
+        byte[][] replies = new byte[frames.length][];
+        for (int i = 0; i < frames.length; i++) {
+            try {
+                replies[i] = exchange(frames[i], readTimeout);
+            } catch (SocketTimeoutException e) {
+                replies[i] = null;
+            }
+        }
+        return replies;
+    }
+
+    /**
+     * Sends a frame without waiting for a reply, once the pacer allows it
+     *
+     * @param frame frame to send
+     * @throws IOException if the connection is closed or broken
+     */
+    synchronized void write(byte[] frame) throws IOException {
+        write(frame, 1);
+    }
+
+    /**
+     * Sends frames written back-to-back with a single call, once the pacer allows it. If a reply timed out on the
+     * connection, the connection is reopened first, dropping the late reply.
+     *
+     * @param data frames to send
+     * @param frames number of frames in the data
+     * @throws IOException if the connection is closed or broken, or can't be reopened
+     */
+    private void write(byte[] data, int frames) throws IOException {
+        if (!isOpen()) {
+            throw new IOException("Socket connection was not established. Please check target host availability and credentials.");
+        }
+        if (replyPending) {
+            closeQuietly(socket);
+            socket = null;
+            open();
+        }
+        pacer.awaitTurn();
+        outputStream.write(data);
+        outputStream.flush();
+        pacer.onSent();
+        sentFrames += frames;
+    }
+
+    /**
+     * Reads the reply to a frame, and reports it to the pacer and the round trip time estimator
+     *
+     * @param frame frame the reply answers
+     * @param readTimeout maximum time in milliseconds to wait for the reply
+     * @param sentAt {@link System#nanoTime()} the frame was sent at
+     * @param sample whether the round trip time of the reply is recorded
+     * @return byte[] reply frame
+     * @throws IOException if the connection is closed or broken, or if the reply timed out
+     */
+    private byte[] read(byte[] frame, int readTimeout, long sentAt, boolean sample) throws IOException {
+        NECMultisyncCommandMetrics currentMetrics = metrics;
+        byte[] reply;
+        try {
+            reply = readFrame(readTimeout);
+        } catch (SocketTimeoutException e) {
+            replyPending = true;
+            pacer.onTimeout(frame);
+            //byte 2 of the header is the monitor ID the frame was sent to
+            rttEstimator.onTimeout(frame[2]);
+            if (currentMetrics != null) {
+                currentMetrics.onTimeout(frame);
+            }
+            throw e;
+        }
+        long roundTripTime = System.nanoTime() - sentAt;
+        if (sample) {
+            rttEstimator.onReply(roundTripTime);
+        }
+        rttEstimator.resetBackoff(frame[2]);
+        pacer.onReply(frame, reply);
+        responseValues replyType = NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length);
+        if (replyType == responseValues.CHECKSUM_ERROR) {
+            checksumErrors++;
+        }
+        if (currentMetrics != null) {
+            currentMetrics.onReply(frame, replyType, roundTripTime);
+        }
+        return reply;
+    }
+
+    /**
+     * Checks whether a reply was corrupted on its way
+     *
+     * @param reply reply frame
+     * @return boolean true if its check code is wrong or the frame is broken
+     */
+    static boolean isCorrupted(byte[] reply) {
+        responseValues replyType = NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length);
+        return replyType == responseValues.CHECKSUM_ERROR || replyType == responseValues.MALFORMED;
+    }
+
+    /**
+     * Reads the next reply frame
+     *
+     * @param readTimeout maximum time in milliseconds to wait for the reply
+     * @return byte[] reply frame
+     * @throws IOException if the connection is closed or broken, or if the reply timed out
+     */
+    private byte[] readFrame(int readTimeout) throws IOException {
+        Socket current = socket;
+        if (current == null || current.isClosed()) {
+            throw new IOException("Socket connection was not established. Please check target host availability and credentials.");
+        }
+        current.setSoTimeout(Math.max(1, Math.min(readTimeout, NECMultisyncConstants.SOCKET_TIMEOUT)));
+        return reader.readFrame();
+    }
+
+    /**
+     * Closes the connection, a pending read or connection attempt fails immediately
+     */
+    void close() {
+        Socket current = socket;
+        socket = null;
+        closeQuietly(current);
+        closeQuietly(connectingSocket);
+    }
+
+    /**
+     * Closes a socket, if any
+     *
+     * @param socket socket to close, may be null
+     */
+    private static void closeQuietly(Socket socket) {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                //nothing to do, the socket is dropped anyway
+            }
+        }
+    }
+}
@@ -20,6 +20,71 @@ class NECMultisyncConstants {
     final static String NONE = "None";
     final static String EMPTY = "";
     final static String MESSAGE_ERROR = "Can't retrieve the data. ";
+    final static String HASH = "#";
+    final static String COMMA = ",";
+    final static String DASH = "-";
+    final static String COLON = ":";
+
+    //Default minimum time in seconds between two retrievals of each statistics property
+    final static String DEFAULT_REFRESH_INTERVALS = "Power:0,Input:0,Diagnosis:600,Temperature:300";
+    //Default minimum time in seconds between two power status reads of a display in standby
+    final static int DEFAULT_STANDBY_REFRESH_INTERVAL = 60;
+    //Default time in seconds a display that failed pipelined queries is queried sequentially before pipelining is tried again
+    final static int DEFAULT_PIPELINE_RETRY_INTERVAL = 600;
+
+    //Daisy chain settings
+    final static int MIN_MONITOR_NUMBER = 1;
+    final static int MAX_MONITOR_NUMBER = 100;
+    final static String MONITOR_STATUS = "Status";
+    final static String MONITOR_RESPONSE_TIME = "ResponseTime(ms)";
+    final static String STATUS_ONLINE = "Online";
+    final static String STATUS_UNREACHABLE = "Unreachable";
+    final static String STATUS_STALE = "Stale";
+
+    //Partial statistics settings, properties that could not be refreshed are reported with their error and last update
+    final static int DEFAULT_STATISTICS_TIME_BUDGET = 30000;
+    final static String REFRESH_ERROR = "Error";
+    final static String LAST_UPDATE = "LastUpdate";
+    final static String TIME_BUDGET_EXCEEDED = "Not refreshed, the statistics time budget was exceeded";
+
+    //Group control settings, commands sent to the ALL address are applied by every display of the chain without reply
+    final static byte MONITOR_ID_ALL = 0x2A;
+    final static String GROUP_ALL_MONITORS = "AllMonitors#";
+    final static String CONTROL_ERROR = "LastControlError";
+    final static int CONFIRMATION_INITIAL_DELAY = 250;
+    final static int CONFIRMATION_MAX_DELAY = 4000;
+    final static int CONFIRMATION_MAX_RESUBMISSIONS = 3;
+    final static int POWER_CONFIRMATION_TIMEOUT = 15000;
+    final static int INPUT_CONFIRMATION_TIMEOUT = 5000;
+
+    //Shared I/O pool settings
+    final static int IO_THREAD_POOL_SIZE = 64;
+    final static long IO_THREAD_KEEP_ALIVE_SECONDS = 60;
+    final static int IO_QUEUE_CAPACITY = 1024;
+    final static int REFRESH_THREAD_POOL_SIZE = 16;
+
+    //Connection settings, reply timeouts in milliseconds adapt to the round trip time within the floor and ceiling
+    final static int SOCKET_TIMEOUT = 30000;
+    final static int INITIAL_REPLY_TIMEOUT = 3000;
+    final static int DEFAULT_MIN_REPLY_TIMEOUT = 500;
+    final static int DEFAULT_MAX_REPLY_TIMEOUT = 10000;
+    //number of times a frame is sent again after a corrupted reply, the connection is kept
+    final static int MAX_FRAME_RETRIES = 2;
+
+    //Circuit breaker settings, consecutive failed cycles opening the circuit and probe intervals in milliseconds
+    final static int DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 3;
+    final static long DEFAULT_PROBE_INTERVAL = 10000;
+    final static long MAX_PROBE_INTERVAL = 300000;
+
+    //Command metrics, reported as statistics of the AdapterMetrics group when enabled
+    final static String GROUP_ADAPTER_METRICS = "AdapterMetrics#";
+    final static String METRIC_REQUESTS = "Requests";
+    final static String METRIC_LATENCY_P50 = "LatencyP50(ms)";
+    final static String METRIC_LATENCY_P99 = "LatencyP99(ms)";
+    final static String METRIC_TIMEOUTS = "Timeouts";
+    final static String METRIC_CHECKSUM_ERRORS = "ChecksumErrors";
+    final static String METRIC_UNSUPPORTED = "Unsupported";
+    final static String METRIC_RECONNECTS = "Reconnects";
 
     //Command types HEX codes
     final static byte MSG_TYPE_CMD = 0x41;
@@ -40,6 +105,9 @@ class NECMultisyncConstants {
 
     //Commands parameters HEX codes
     final static byte[] SENSOR_1 = {0x30,0x30,0x30,0x31};
+    final static byte[] SENSOR_2 = {0x30,0x30,0x30,0x32};
+    final static byte[] SENSOR_3 = {0x30,0x30,0x30,0x33};
+    final static byte[][] SENSORS = {SENSOR_1, SENSOR_2, SENSOR_3};
 
     final static byte[] POWER_ON = {0x30,0x30,0x30,0x31};
     final static byte[] POWER_OFF = {0x30,0x30,0x30,0x34};
@@ -51,14 +119,14 @@ class NECMultisyncConstants {
 
     //Replies HEX codes
     final static byte[] REP_POWER_STATUS_READ_Codes = {0x44,0x36};
-    final static byte[] REP_POWER_CONTROL_Codes = {0x43,0x32,0x30,0x44,0x36};
     final static byte[] REP_SELF_DIAG_Codes = {0x41,0x31};
 
     //Power status values
     enum powerStatus {ON,STANDBY,SUSPEND,OFF}
 
-    //Expected replies values
-    enum responseValues {POWER_STATUS_READ,POWER_CONTROL,SELF_DIAG,INPUT_STATUS_READ,INPUT_CONTROL,GET_TEMPERATURE}
+    //Replies values, the last ones are reported for rejected or broken replies
+    enum responseValues {POWER_STATUS_READ,POWER_CONTROL,SELF_DIAG,INPUT_STATUS_READ,INPUT_CONTROL,GET_TEMPERATURE,SENSOR_SELECT,
+        UNKNOWN,UNSUPPORTED,RESULT_ERROR,CHECKSUM_ERROR,MALFORMED}
 
     //Diagnostics values
     enum diagResultNames {NORMAL,STB_POWER_3_3V_ABNORMALITY,STB_POWER_5V_ABNORMALITY,PANEL_POWER_12V_ABNORMALITY,INVERTER_POWER_24V_ABNORMALITY,
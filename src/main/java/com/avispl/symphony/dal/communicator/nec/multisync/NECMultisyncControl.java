@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+/**
+ * Control of one property of one display, applied to the cached statistics and waiting for the display to confirm it.
+ * Controls of a batch are confirmed together by {@link NECMultisyncDevice}, with one read-back exchange per round.
+ * A control depending on another one of the batch, such as an input change on a display being powered on,
+ * holds its command until the display confirms the control it depends on, and fails with it.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class NECMultisyncControl {
+
+    private final NECMultisyncMonitor monitor;
+    private final NECMultisyncQuery query;
+    private final String value;
+    private final String previousValue;
+    private final long deadline;
+    private final NECMultisyncControl dependency;
+    private byte[] deferredCommand;
+    private boolean confirmed;
+
+    /**
+     * Constructor for NECMultisyncControl
+     *
+     * @param monitor controlled display
+     * @param query query reading the controlled property
+     * @param value value set by the control, as reported in statistics
+     * @param timeout maximum time in milliseconds to wait for the display to report the new value
+     * @param deferredCommand command sent once the power control of the display is confirmed, null if the command was sent
+     * @param dependency power control the deferred command waits for, null if it can be sent at once
+     */
+    NECMultisyncControl(NECMultisyncMonitor monitor, NECMultisyncQuery query, String value, long timeout, byte[] deferredCommand,
+            NECMultisyncControl dependency) {
+        this.monitor = monitor;
+        this.query = query;
+        this.value = value;
+        this.previousValue = monitor.getCachedValue(query.getProperty());
+        this.deferredCommand = deferredCommand;
+        this.dependency = dependency;
+        long wait = deferredCommand == null ? timeout : timeout + NECMultisyncConstants.POWER_CONFIRMATION_TIMEOUT;
+        this.deadline = System.nanoTime() + wait * 1000000L;
+    }
+
+    /**
+     * Retrieves {@link #monitor}
+     *
+     * @return value of {@link #monitor}
+     */
+    NECMultisyncMonitor getMonitor() {
+        return monitor;
+    }
+
+    /**
+     * Retrieves {@link #query}
+     *
+     * @return value of {@link #query}
+     */
+    NECMultisyncQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * Retrieves {@link #value}
+     *
+     * @return value of {@link #value}
+     */
+    String getValue() {
+        return value;
+    }
+
+    /**
+     * Retrieves {@link #previousValue}
+     *
+     * @return value of {@link #previousValue}, the value reported before the control, null if none was retrieved
+     */
+    String getPreviousValue() {
+        return previousValue;
+    }
+
+    /**
+     * Checks whether the display must have reported the new value
+     *
+     * @param now current {@link System#nanoTime()}
+     * @param nextDelay time in milliseconds until the next read-back
+     * @return boolean true if the next read-back would happen after the deadline
+     */
+    boolean isExpiredBefore(long now, long nextDelay) {
+        return now + nextDelay * 1000000L - deadline >= 0;
+    }
+
+    /**
+     * Retrieves {@link #deferredCommand}
+     *
+     * @return value of {@link #deferredCommand}, null once the command was sent
+     */
+    byte[] getDeferredCommand() {
+        return deferredCommand;
+    }
+
+    /**
+     * Marks the deferred command as sent
+     */
+    void clearDeferredCommand() {
+        this.deferredCommand = null;
+    }
+
+    /**
+     * Checks whether this control is still the latest control of its property, a later control replaces it
+     *
+     * @return boolean true if the display still waits for this value
+     */
+    boolean isCurrent() {
+        return value.equals(monitor.getPendingControl(query.getProperty()));
+    }
+
+    /**
+     * Marks the control as confirmed by the display
+     */
+    void confirm() {
+        this.confirmed = true;
+    }
+
+    /**
+     * Checks whether the deferred command can be sent
+     *
+     * @return boolean true if the command doesn't depend on another control, or if that control is confirmed
+     */
+    boolean isReady() {
+        return dependency == null || dependency.confirmed;
+    }
+
+    /**
+     * Checks whether the deferred command will never be sent
+     *
+     * @return boolean true if the control it depends on failed, or was replaced by a later control, before it was confirmed
+     */
+    boolean isAbandoned() {
+        return dependency != null && !dependency.confirmed && !dependency.isCurrent();
+    }
+}
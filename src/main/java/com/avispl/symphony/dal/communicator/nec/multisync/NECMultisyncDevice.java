@@ -3,28 +3,12 @@
  */
 package com.avispl.symphony.dal.communicator.nec.multisync;
 
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_GET_INPUT;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_GET_POWER;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_GET_TEMP;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_SELF_DIAG;
 import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_SET_INPUT;
 import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_SET_POWER;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_SET_SENSOR;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.DIAG_RESULT_CODES;
 import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.MSG_TYPE_CMD;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.MSG_TYPE_CMD_REPLY;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.MSG_TYPE_GET;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.MSG_TYPE_GET_REPLY;
 import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.MSG_TYPE_SET;
 import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.POWER_OFF;
 import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.POWER_ON;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.REP_POWER_CONTROL_Codes;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.REP_POWER_STATUS_READ_Codes;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.REP_RESERVED_DATA;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.REP_RESULT_CODE_NO_ERROR;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.REP_RESULT_CODE_NO_UNSUPPORTED;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.REP_SELF_DIAG_Codes;
-import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.SENSOR_1;
 import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.controlProperties;
 import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.diagResultNames;
 import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.inputNames;
@@ -33,26 +17,42 @@ import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncCon
 import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.responseValues;
 import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.statisticsProperties;
 
+import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.*;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import javax.management.JMException;
 
 import com.avispl.symphony.api.dal.control.Controller;
+import com.avispl.symphony.api.dal.dto.control.ConnectionState;
 import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.dal.communicator.ConnectionStatus;
 import com.avispl.symphony.dal.communicator.SocketCommunicator;
 import com.avispl.symphony.dal.util.StringUtils;
 /**
@@ -70,241 +70,1941 @@ import com.avispl.symphony.dal.util.StringUtils;
  */
 public class NECMultisyncDevice extends SocketCommunicator implements Controller, Monitorable {
 
-    private int monitorID;
-    private final int STARTUP_SHUTDOWN_COOLDOWN = 3000;
-    private long latestShutdownStartupTimestamp;
-    private ExtendedStatistics localStatistics;
-    private String temperatureValue;
-    private Set<String> historicalProperties = new HashSet<>();
-    private final ReentrantLock reentrantLock = new ReentrantLock();
+    private int monitorID;
+    private final int STARTUP_SHUTDOWN_COOLDOWN = 3000;
+    private long latestShutdownStartupTimestamp;
+    private volatile ExtendedStatistics localStatistics;
+    private String monitorIDs = NECMultisyncConstants.EMPTY;
+    private List<NECMultisyncMonitor> monitors;
+    private Set<String> historicalProperties = new HashSet<>();
+    private final NECMultisyncCommandQueue commandQueue = new NECMultisyncCommandQueue();
+    private final ConnectionStatus connectionStatus = new ConnectionStatus();
+    private volatile NECMultisyncConnection connection;
+    private int pipelineDepth = 1;
+    private int pipelineRetryInterval = NECMultisyncConstants.DEFAULT_PIPELINE_RETRY_INTERVAL;
+    private volatile long sequentialUntil;
+    private String refreshIntervals = NECMultisyncConstants.DEFAULT_REFRESH_INTERVALS;
+    private final long[] refreshIntervalValues = new long[statisticsProperties.values().length];
+    private int standbyRefreshInterval = NECMultisyncConstants.DEFAULT_STANDBY_REFRESH_INTERVAL;
+    private long standbyRefreshIntervalValue = TimeUnit.SECONDS.toMillis(NECMultisyncConstants.DEFAULT_STANDBY_REFRESH_INTERVAL);
+    private int temperatureSensor = 1;
+    private int commandInterval;
+    private final NECMultisyncPacer pacer = new NECMultisyncPacer();
+    private int minReplyTimeout = NECMultisyncConstants.DEFAULT_MIN_REPLY_TIMEOUT;
+    private int maxReplyTimeout = NECMultisyncConstants.DEFAULT_MAX_REPLY_TIMEOUT;
+    private final NECMultisyncRttEstimator rttEstimator = new NECMultisyncRttEstimator();
+    private int circuitBreakerThreshold = NECMultisyncConstants.DEFAULT_CIRCUIT_BREAKER_THRESHOLD;
+    private int probeInterval = (int) TimeUnit.MILLISECONDS.toSeconds(NECMultisyncConstants.DEFAULT_PROBE_INTERVAL);
+    private final NECMultisyncCircuitBreaker circuitBreaker = new NECMultisyncCircuitBreaker();
+    private final AtomicLong receivedFrames = new AtomicLong();
+    private int statisticsTimeBudget = NECMultisyncConstants.DEFAULT_STATISTICS_TIME_BUDGET;
+    private int statisticsMaxAge;
+    private volatile long statisticsTimestamp;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicReference<Exception> refreshError = new AtomicReference<>();
+    private boolean adapterMetrics;
+    private volatile NECMultisyncCommandMetrics commandMetrics;
+    private boolean jmxMetrics;
+    private volatile NECMultisyncMetrics mBean;
+    private final Set<ScheduledFuture<?>> confirmations = ConcurrentHashMap.newKeySet();
+    private volatile boolean destroyed;
+
+    /**
+     * Exchange of frames run against the open connection to the display, returning the reply of each frame
+     */
+    private interface ConnectionOperation {
+        byte[][] execute(NECMultisyncConnection connection) throws IOException;
+    }
+
+    /**
+     * Constructor set the TCP/IP port to be used as well the default monitor ID
+     */
+    public NECMultisyncDevice() {
+        super();
+
+        this.setPort(7142);
+        this.monitorID = 1+64;
+        this.monitors = Collections.singletonList(new NECMultisyncMonitor(1, false));
+        this.setRefreshIntervals(NECMultisyncConstants.DEFAULT_REFRESH_INTERVALS);
+
+        // success/error lists are validated by SocketCommunicator on init, but are not used to read replies:
+        // replies are framed by NECMultisyncFrameReader using the message size of the reply header
+        this.setCommandSuccessList(Collections.singletonList("\r"));
+        this.setCommandErrorList(Collections.singletonList("ERROR"));
+    }
+
+    /**
+     * Opens the connection to the display. Replies are read by {@link NECMultisyncFrameReader} using the message
+     * size announced in each reply header, instead of the terminator scanning of the inherited socket channel.
+     */
+    @Override
+    public void connect() throws Exception {
+        if (!isInitialized()) {
+            throw new IllegalStateException("Cannot use device class without calling init() first");
+        }
+        openConnection();
+    }
+
+    /**
+     * Closes the connection to the display
+     */
+    @Override
+    public void disconnect() throws Exception {
+        closeConnection();
+        connectionStatus.setConnectionState(ConnectionState.Disconnected);
+    }
+
+    /**
+     * Closes the connection to the display, next command reconnects
+     */
+    @Override
+    public void destroyChannel() {
+        closeConnection();
+    }
+
+    /**
+     * Retrieves the status of the connection to the display
+     *
+     * @return ConnectionStatus copy of the current connection status
+     */
+    @Override
+    public ConnectionStatus getConnectionStatus() {
+        return connectionStatus.copyOf();
+    }
+
+    /**
+     * Retrieves {@link #commandQueue}
+     *
+     * @return value of {@link #commandQueue}, its depth and wait times are reported for monitoring
+     */
+    NECMultisyncCommandQueue getCommandQueue() {
+        return commandQueue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void internalInit() throws Exception {
+        super.internalInit();
+        destroyed = false;
+        if (jmxMetrics && mBean == null) {
+            NECMultisyncMetrics metrics = new NECMultisyncMetrics(this);
+            try {
+                metrics.register();
+                mBean = metrics;
+            } catch (JMException e) {
+                if (this.logger.isWarnEnabled()) {
+                    this.logger.warn("Unable to register the MBean of: " + this.host + " port: " + this.getPort(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Pending control confirmations are cancelled, and operations still running, background refresh included,
+     * can't reopen the connection.
+     */
+    @Override
+    protected void internalDestroy() {
+        destroyed = true;
+        confirmations.forEach(confirmation -> confirmation.cancel(false));
+        confirmations.clear();
+        refreshError.set(null);
+        closeConnection();
+        NECMultisyncMetrics metrics = mBean;
+        if (metrics != null) {
+            metrics.unregister();
+            mBean = null;
+        }
+        super.internalDestroy();
+    }
+
+    /**
+     * Retrieves {@link #historicalProperties}
+     *
+     * @return value of {@link #historicalProperties}
+     */
+    public String getHistoricalProperties() {
+        return String.join(",", this.historicalProperties);
+    }
+
+    /**
+     * Sets {@link #historicalProperties} value
+     *
+     * @param historicalProperties new value of {@link #historicalProperties}
+     */
+    public void setHistoricalProperties(String historicalProperties) {
+        this.historicalProperties.clear();
+        Arrays.asList(historicalProperties.split(",")).forEach(propertyName -> {
+            this.historicalProperties.add(propertyName.trim());
+        });
+    }
+
+    /**
+     * Retrieves {@link #pipelineDepth}
+     *
+     * @return value of {@link #pipelineDepth}
+     */
+    public int getPipelineDepth() {
+        return pipelineDepth;
+    }
+
+    /**
+     * Sets {@link #pipelineDepth} value, the maximum number of monitoring queries sent to the display before their
+     * reply is received. 1 (the default) sends each query after the reply of the previous one, which every model
+     * supports; higher values pipeline the statistics queries so that a cycle costs about one round trip.
+     *
+     * @param pipelineDepth new value of {@link #pipelineDepth}
+     */
+    public void setPipelineDepth(int pipelineDepth) {
+        this.pipelineDepth = Math.max(1, pipelineDepth);
+    }
+
+    /**
+     * Retrieves {@link #pipelineRetryInterval}
+     *
+     * @return value of {@link #pipelineRetryInterval}
+     */
+    public int getPipelineRetryInterval() {
+        return pipelineRetryInterval;
+    }
+
+    /**
+     * Sets {@link #pipelineRetryInterval} value, the time in seconds a display that failed pipelined queries is queried
+     * sequentially before pipelining is tried again. {@link #pipelineDepth} is left as configured.
+     *
+     * @param pipelineRetryInterval new value of {@link #pipelineRetryInterval}
+     */
+    public void setPipelineRetryInterval(int pipelineRetryInterval) {
+        this.pipelineRetryInterval = Math.max(0, pipelineRetryInterval);
+    }
+
+    /**
+     * Retrieves the number of queries currently sent before their reply is received: {@link #pipelineDepth},
+     * or 1 while pipelining is suspended after pipelined queries failed
+     *
+     * @return int current pipeline depth
+     */
+    private int getActivePipelineDepth() {
+        return System.currentTimeMillis() < sequentialUntil ? 1 : pipelineDepth;
+    }
+
+    /**
+     * Retrieves {@link #refreshIntervals}
+     *
+     * @return value of {@link #refreshIntervals}
+     */
+    public String getRefreshIntervals() {
+        return refreshIntervals;
+    }
+
+    /**
+     * Sets {@link #refreshIntervals} value, the minimum time in seconds between two retrievals of each statistics
+     * property, e.g. "Power:0,Input:0,Diagnosis:600,Temperature:300". 0 retrieves the property on every cycle, properties
+     * that are not due are reported from the last retrieved value. Properties left out keep their default interval.
+     *
+     * @param refreshIntervals new value of {@link #refreshIntervals}
+     */
+    public void setRefreshIntervals(String refreshIntervals) {
+        parseRefreshIntervals(NECMultisyncConstants.DEFAULT_REFRESH_INTERVALS);
+        if (StringUtils.isNotNullOrEmpty(refreshIntervals)) {
+            parseRefreshIntervals(refreshIntervals);
+        }
+        this.refreshIntervals = refreshIntervals;
+    }
+
+    /**
+     * Retrieves {@link #standbyRefreshInterval}
+     *
+     * @return value of {@link #standbyRefreshInterval}
+     */
+    public int getStandbyRefreshInterval() {
+        return standbyRefreshInterval;
+    }
+
+    /**
+     * Sets {@link #standbyRefreshInterval} value, the minimum time in seconds between two power status reads of a display
+     * in standby or off. Input and temperature are not read in that state, the full set of queries resumes as soon
+     * as the display is seen powered on.
+     *
+     * @param standbyRefreshInterval new value of {@link #standbyRefreshInterval}
+     */
+    public void setStandbyRefreshInterval(int standbyRefreshInterval) {
+        this.standbyRefreshInterval = Math.max(0, standbyRefreshInterval);
+        this.standbyRefreshIntervalValue = TimeUnit.SECONDS.toMillis(this.standbyRefreshInterval);
+    }
+
+    /**
+     * Retrieves {@link #temperatureSensor}
+     *
+     * @return value of {@link #temperatureSensor}
+     */
+    public int getTemperatureSensor() {
+        return temperatureSensor;
+    }
+
+    /**
+     * Sets {@link #temperatureSensor} value, the sensor (1 to 3) the temperature is read from
+     *
+     * @param temperatureSensor new value of {@link #temperatureSensor}
+     */
+    public void setTemperatureSensor(int temperatureSensor) {
+        int sensor = Math.max(1, Math.min(temperatureSensor, NECMultisyncConstants.SENSORS.length));
+        if (sensor != this.temperatureSensor) {
+            //the value read from the previous sensor is replaced on the next cycle
+            for (NECMultisyncMonitor monitor : monitors) {
+                monitor.invalidate(statisticsProperties.Temperature);
+            }
+        }
+        this.temperatureSensor = sensor;
+    }
+
+    /**
+     * Retrieves {@link #commandInterval}
+     *
+     * @return value of {@link #commandInterval}
+     */
+    public int getCommandInterval() {
+        return commandInterval;
+    }
+
+    /**
+     * Sets {@link #commandInterval} value, the minimum time in milliseconds between the last frame exchanged with the
+     * display and the next command. 0 (the default) sends commands as soon as the previous reply is received.
+     * The interval is lengthened automatically when the display refuses commands sent too fast (see {@link NECMultisyncPacer}).
+     *
+     * @param commandInterval new value of {@link #commandInterval}
+     */
+    public void setCommandInterval(int commandInterval) {
+        this.commandInterval = Math.max(0, commandInterval);
+        pacer.setMinimumGap(this.commandInterval);
+    }
+
+    /**
+     * Retrieves {@link #minReplyTimeout}
+     *
+     * @return value of {@link #minReplyTimeout}
+     */
+    public int getMinReplyTimeout() {
+        return minReplyTimeout;
+    }
+
+    /**
+     * Sets {@link #minReplyTimeout} value, the minimum time in milliseconds to wait for a reply.
+     * The reply timeout adapts to the round trip time observed (see {@link NECMultisyncRttEstimator}),
+     * a display that doesn't reply within it is considered unreachable.
+     *
+     * @param minReplyTimeout new value of {@link #minReplyTimeout}
+     */
+    public void setMinReplyTimeout(int minReplyTimeout) {
+        this.minReplyTimeout = Math.max(1, minReplyTimeout);
+        rttEstimator.setBounds(this.minReplyTimeout, maxReplyTimeout);
+    }
+
+    /**
+     * Retrieves {@link #maxReplyTimeout}
+     *
+     * @return value of {@link #maxReplyTimeout}
+     */
+    public int getMaxReplyTimeout() {
+        return maxReplyTimeout;
+    }
+
+    /**
+     * Sets {@link #maxReplyTimeout} value, the maximum time in milliseconds to wait for a reply, or for the connection
+     * to be established. It bounds the reply timeout however slow the display is.
+     *
+     * @param maxReplyTimeout new value of {@link #maxReplyTimeout}
+     */
+    public void setMaxReplyTimeout(int maxReplyTimeout) {
+        this.maxReplyTimeout = Math.max(1, maxReplyTimeout);
+        rttEstimator.setBounds(minReplyTimeout, this.maxReplyTimeout);
+    }
+
+    /**
+     * Retrieves {@link #statisticsTimeBudget}
+     *
+     * @return value of {@link #statisticsTimeBudget}
+     */
+    public int getStatisticsTimeBudget() {
+        return statisticsTimeBudget;
+    }
+
+    /**
+     * Sets {@link #statisticsTimeBudget} value, the maximum time in milliseconds a statistics cycle spends querying the
+     * displays. Queries not started within the budget are skipped: their properties are reported from the cache, along
+     * with an error and the time they were last retrieved. 0 disables the budget.
+     *
+     * @param statisticsTimeBudget new value of {@link #statisticsTimeBudget}
+     */
+    public void setStatisticsTimeBudget(int statisticsTimeBudget) {
+        this.statisticsTimeBudget = Math.max(0, statisticsTimeBudget);
+    }
+
+    /**
+     * Retrieves {@link #statisticsMaxAge}
+     *
+     * @return value of {@link #statisticsMaxAge}
+     */
+    public int getStatisticsMaxAge() {
+        return statisticsMaxAge;
+    }
+
+    /**
+     * Sets {@link #statisticsMaxAge} value, the age in milliseconds after which statistics are refreshed in the
+     * background. When set, statistics are returned at once from the last snapshot, and a snapshot older than this age
+     * triggers a refresh on a shared background pool: polling doesn't wait for the displays anymore.
+     * 0 (default) refreshes the statistics on the polling thread.
+     *
+     * @param statisticsMaxAge new value of {@link #statisticsMaxAge}
+     */
+    public void setStatisticsMaxAge(int statisticsMaxAge) {
+        this.statisticsMaxAge = Math.max(0, statisticsMaxAge);
+    }
+
+    /**
+     * Retrieves {@link #circuitBreakerThreshold}
+     *
+     * @return value of {@link #circuitBreakerThreshold}
+     */
+    public int getCircuitBreakerThreshold() {
+        return circuitBreakerThreshold;
+    }
+
+    /**
+     * Sets {@link #circuitBreakerThreshold} value, the number of consecutive statistics cycles failed without any reply
+     * after which the display is considered down: the last statistics retrieved are reported as stale without querying the display,
+     * which is only probed with a power status query every {@link #probeInterval}. 0 disables the circuit breaker.
+     *
+     * @param circuitBreakerThreshold new value of {@link #circuitBreakerThreshold}
+     */
+    public void setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+        this.circuitBreakerThreshold = Math.max(0, circuitBreakerThreshold);
+        circuitBreaker.setFailureThreshold(this.circuitBreakerThreshold);
+    }
+
+    /**
+     * Retrieves {@link #probeInterval}
+     *
+     * @return value of {@link #probeInterval}
+     */
+    public int getProbeInterval() {
+        return probeInterval;
+    }
+
+    /**
+     * Sets {@link #probeInterval} value, the time in seconds between the display being considered down and the first
+     * probe. The interval is doubled after each failed probe, up to 5 minutes.
+     *
+     * @param probeInterval new value of {@link #probeInterval}
+     */
+    public void setProbeInterval(int probeInterval) {
+        this.probeInterval = Math.max(0, probeInterval);
+        circuitBreaker.setProbeInterval(TimeUnit.SECONDS.toMillis(this.probeInterval));
+    }
+
+    /**
+     * Retrieves {@link #adapterMetrics}
+     *
+     * @return value of {@link #adapterMetrics}
+     */
+    public boolean isAdapterMetrics() {
+        return adapterMetrics;
+    }
+
+    /**
+     * Sets {@link #adapterMetrics} value, whether the latency, timeouts, corrupted replies and unsupported results of
+     * each command, and the reconnections, are reported in the AdapterMetrics statistics group. Disabled by default,
+     * nothing is recorded then. Enabling the metrics again starts them over.
+     *
+     * @param adapterMetrics new value of {@link #adapterMetrics}
+     */
+    public synchronized void setAdapterMetrics(boolean adapterMetrics) {
+        this.adapterMetrics = adapterMetrics;
+        commandMetrics = adapterMetrics ? new NECMultisyncCommandMetrics() : null;
+        if (connection != null) {
+            connection.setMetrics(commandMetrics);
+        }
+    }
+
+    /**
+     * Retrieves {@link #jmxMetrics}
+     *
+     * @return value of {@link #jmxMetrics}
+     */
+    public boolean isJmxMetrics() {
+        return jmxMetrics;
+    }
+
+    /**
+     * Sets {@link #jmxMetrics} value, whether an MBean exposing the cycle durations, last error, circuit state, queue depth
+     * and frame counters of the adapter is registered in the platform MBean server (see {@link NECMultisyncMetricsMXBean}),
+     * keyed by host and monitor IDs. Disabled by default, applied when the adapter is initialized; the MBean is removed
+     * when the adapter is destroyed.
+     *
+     * @param jmxMetrics new value of {@link #jmxMetrics}
+     */
+    public void setJmxMetrics(boolean jmxMetrics) {
+        this.jmxMetrics = jmxMetrics;
+    }
+
+    /**
+     * Retrieves {@link #commandMetrics}
+     *
+     * @return value of {@link #commandMetrics}, null unless {@link #adapterMetrics} is enabled
+     */
+    NECMultisyncCommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    /**
+     * Retrieves {@link #mBean}
+     *
+     * @return value of {@link #mBean}, null unless {@link #jmxMetrics} is enabled and the adapter initialized
+     */
+    NECMultisyncMetrics getMBean() {
+        return mBean;
+    }
+
+    /**
+     * Retrieves the number of frames sent to the displays
+     *
+     * @return long number of frames sent since the adapter was created, retries included
+     */
+    long getSentFrameCount() {
+        NECMultisyncConnection current = connection;
+        return current == null ? 0 : current.getSentFrameCount();
+    }
+
+    /**
+     * Retrieves {@link #receivedFrames}
+     *
+     * @return value of {@link #receivedFrames}, number of reply frames received since the adapter was created
+     */
+    long getReceivedFrameCount() {
+        return receivedFrames.get();
+    }
+
+    /**
+     * Runs a statistics cycle in the background now, unless one is already running or the adapter is destroyed
+     */
+    void forceRefresh() {
+        if (!destroyed) {
+            scheduleRefresh();
+        }
+    }
+
+    /**
+     * Retrieves {@link #circuitBreaker}
+     *
+     * @return value of {@link #circuitBreaker}, its state is reported for monitoring
+     */
+    NECMultisyncCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Retrieves {@link #rttEstimator}
+     *
+     * @return value of {@link #rttEstimator}, its round trip time and timeout are reported for monitoring
+     */
+    NECMultisyncRttEstimator getRttEstimator() {
+        return rttEstimator;
+    }
+
+    /**
+     * Retrieves {@link #pacer}
+     *
+     * @return value of {@link #pacer}, its gap and failures are reported for monitoring
+     */
+    NECMultisyncPacer getPacer() {
+        return pacer;
+    }
+
+    /**
+     * Parses refresh intervals into {@link #refreshIntervalValues}
+     *
+     * @param intervals comma separated list of property:seconds items
+     */
+    private void parseRefreshIntervals(String intervals) {
+        for (String item : intervals.split(NECMultisyncConstants.COMMA)) {
+            String[] interval = item.split(NECMultisyncConstants.COLON);
+            statisticsProperties property = Arrays.stream(statisticsProperties.values())
+                .filter(p -> p.name().equalsIgnoreCase(interval[0].trim()))
+                .findFirst()
+                .orElse(null);
+            try {
+                if (property == null || interval.length != 2) {
+                    throw new IllegalArgumentException("Unknown property");
+                }
+                refreshIntervalValues[property.ordinal()] = TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(interval[1].trim())));
+            } catch (IllegalArgumentException e) {
+                if (this.logger.isErrorEnabled()) {
+                    this.logger.error("Invalid refresh interval: " + item + ", expected property:seconds such as Diagnosis:600");
+                }
+            }
+        }
+    }
+
+    /**
+     * This method is recalled by Symphony to control specific property
+     *
+     * @param controllableProperty This is the property to be controlled
+     */
+    @Override
+    public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+        List<NECMultisyncControl> controls = new ArrayList<>();
+        //a statistics cycle in progress hands the connection over at its next frame boundary
+        commandQueue.acquire(NECMultisyncCommandQueue.Priority.CONTROL);
+        //the control edits a copy of the published statistics, readers keep the previous version until it is published
+        ExtendedStatistics draft = copyStatistics(localStatistics);
+        try {
+            applyControl(draft, controllableProperty.getProperty(), String.valueOf(controllableProperty.getValue()), controls, new HashMap<>());
+        } finally {
+            if (!draft.getStatistics().isEmpty()) {
+                localStatistics = publishStatistics(draft.getStatistics(), draft.getDynamicStatistics(), draft.getControllableProperties());
+            }
+            commandQueue.release();
+            scheduleConfirmation(controls, NECMultisyncConstants.CONFIRMATION_INITIAL_DELAY);
+        }
+    }
+
+    /**
+     * Sends the command of a control and applies the new value to the statistics, the display confirms it later
+     *
+     * @param draft statistics edited by the control
+     * @param property full name of the controlled property
+     * @param value new value of the property
+     * @param controls controls to confirm, the controls applied are added to it
+     * @param poweringOn power controls of the displays powered on earlier in the batch, their input command waits for the power confirmation
+     * @throws IllegalArgumentException if the value is invalid or if the display refused the command
+     */
+    private void applyControl(ExtendedStatistics draft, String property, String value, List<NECMultisyncControl> controls,
+            Map<NECMultisyncMonitor, NECMultisyncControl> poweringOn) throws Exception {
+        if (monitors.size() > 1 && property.startsWith(NECMultisyncConstants.GROUP_ALL_MONITORS)) {
+            controlGroup(draft, property.substring(NECMultisyncConstants.GROUP_ALL_MONITORS.length()), value, controls, poweringOn);
+            return;
+        }
+        NECMultisyncMonitor monitor = getMonitorByProperty(property);
+        String propertyName = monitor.getBaseName(property);
+        if (propertyName.equals(controlProperties.Power.name())) {
+            if (value.equals(NECMultisyncConstants.NUMBER_ONE) || value.equals(NECMultisyncConstants.ZERO)) {
+                boolean on = value.equals(NECMultisyncConstants.NUMBER_ONE);
+                powerSwitch(on ? POWER_ON : POWER_OFF, monitor);
+                updatePowerProperties(draft, monitor, on);
+                NECMultisyncControl control = new NECMultisyncControl(monitor, NECMultisyncQuery.POWER, value, NECMultisyncConstants.POWER_CONFIRMATION_TIMEOUT, null, null);
+                addControl(controls, control);
+                if (on) {
+                    poweringOn.put(monitor, control);
+                }
+            }
+        } else if (propertyName.equals(controlProperties.Input.name())) {
+            addControl(controls, changeInputValue(draft, value, monitor, poweringOn.get(monitor)));
+        }
+    }
+
+    /**
+     * Adds a control to the controls to confirm, polling reports its value until it is confirmed or failed
+     *
+     * @param controls controls to confirm
+     * @param control control applied
+     */
+    private static void addControl(List<NECMultisyncControl> controls, NECMultisyncControl control) {
+        control.getMonitor().setPendingControl(control.getQuery().getProperty(), control.getValue());
+        controls.add(control);
+    }
+
+    /**
+     * Controls every display of the chain at once: the command is sent once to the ALL address and the new state
+     * is applied to every display, then confirmed in the background (see {@link #runConfirmation}).
+     * Displays that don't confirm the new state report the failure in the next statistics.
+     * An input change following a power on in the same batch is sent to each display once it is powered on.
+     *
+     * @param draft statistics edited by the control
+     * @param propertyName name of the group property, without group
+     * @param value new value of the property
+     * @param controls controls to confirm, the controls applied are added to it
+     * @param poweringOn power controls of the displays powered on earlier in the batch
+     * @throws IllegalArgumentException if the value is invalid
+     */
+    private void controlGroup(ExtendedStatistics draft, String propertyName, String value, List<NECMultisyncControl> controls,
+            Map<NECMultisyncMonitor, NECMultisyncControl> poweringOn) throws Exception {
+        List<NECMultisyncMonitor> members = monitors.stream().filter(NECMultisyncMonitor::isReachable).collect(Collectors.toList());
+        if (propertyName.equals(controlProperties.Power.name())) {
+            if (!value.equals(NECMultisyncConstants.NUMBER_ONE) && !value.equals(NECMultisyncConstants.ZERO)) {
+                throw new IllegalArgumentException(String.format("Can't control Power with value is %s. Error because invalid power value", value));
+            }
+            boolean on = value.equals(NECMultisyncConstants.NUMBER_ONE);
+            broadcast(NECMultisyncFrameCache.getFrame(NECMultisyncConstants.MONITOR_ID_ALL, MSG_TYPE_CMD, CMD_SET_POWER, on ? POWER_ON : POWER_OFF));
+            updateShutdownStartupTimestamp();
+            for (NECMultisyncMonitor monitor : members) {
+                updatePowerProperties(draft, monitor, on);
+                NECMultisyncControl control = new NECMultisyncControl(monitor, NECMultisyncQuery.POWER, value, NECMultisyncConstants.POWER_CONFIRMATION_TIMEOUT, null, null);
+                addControl(controls, control);
+                if (on) {
+                    poweringOn.put(monitor, control);
+                }
+            }
+        } else if (propertyName.equals(controlProperties.Input.name())) {
+            inputNames inputName = getInputNameFromString(value);
+            if (inputName == null || inputName == inputNames.UNKNOWN) {
+                throw new IllegalArgumentException(String.format("Can't control Input with value is %s. Error because invalid input value", value));
+            }
+            //only displays that are powered on switch their input
+            members.removeIf(monitor -> !NECMultisyncConstants.NUMBER_ONE.equals(draft.getStatistics().get(monitor.getPropertyName(statisticsProperties.Power.name()))));
+            byte[] command = NECMultisyncFrameCache.getFrame(NECMultisyncConstants.MONITOR_ID_ALL, MSG_TYPE_SET, CMD_SET_INPUT, inputs.get(inputName));
+            boolean deferred = members.stream().anyMatch(poweringOn::containsKey);
+            if (!deferred) {
+                broadcast(command);
+            }
+            for (NECMultisyncMonitor monitor : members) {
+                addControl(controls, new NECMultisyncControl(monitor, NECMultisyncQuery.INPUT, inputName.name(), NECMultisyncConstants.INPUT_CONFIRMATION_TIMEOUT,
+                        deferred ? NECMultisyncFrameCache.getFrame((byte) monitor.getMonitorID(), MSG_TYPE_SET, CMD_SET_INPUT, inputs.get(inputName)) : null,
+                        poweringOn.get(monitor)));
+                updateInputProperties(draft, monitor, value);
+            }
+        } else {
+            return;
+        }
+        draft.getStatistics().put(NECMultisyncConstants.GROUP_ALL_MONITORS + propertyName, value);
+        draft.getControllableProperties().stream().filter(acp -> acp.getName().equals(NECMultisyncConstants.GROUP_ALL_MONITORS + propertyName))
+                .findFirst().ifPresent(acp -> {
+                    acp.setTimestamp(new Date());
+                    acp.setValue(value);
+                });
+    }
+
+    /**
+     * Sends a frame to the ALL address. Displays don't reply to it, so nothing is read.
+     *
+     * @param frame frame to send
+     * @throws Exception if the frame couldn't be sent
+     */
+    private void broadcast(byte[] frame) throws Exception {
+        NECMultisyncIOExecutor.execute(() -> exchange(new byte[][] { frame }, c -> {
+            c.write(frame);
+            return new byte[0][];
+        }), this::closeConnection, getExchangeDeadline(1, rttEstimator.getTimeout()), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules the next read-back confirming controls applied to the cached statistics. The first read-back happens
+     * after {@link NECMultisyncConstants#CONFIRMATION_INITIAL_DELAY}, the next ones with exponentially growing delays,
+     * until every display reports the new values or the controls time out.
+     *
+     * @param pending controls not confirmed yet
+     * @param delay time in milliseconds to wait before the read-back
+     */
+    private void scheduleConfirmation(List<NECMultisyncControl> pending, long delay) {
+        scheduleConfirmation(pending, delay, 0);
+    }
+
+    /**
+     * Schedules a read-back, see {@link #scheduleConfirmation(List, long)}. A read-back the refresh pool rejects is
+     * scheduled again up to {@link NECMultisyncConstants#CONFIRMATION_MAX_RESUBMISSIONS} times, then its controls are
+     * abandoned. The future of the read-back waiting for its delay is kept in {@link #confirmations}, so destroying the
+     * adapter cancels it.
+     *
+     * @param pending controls not confirmed yet
+     * @param delay time in milliseconds to wait before the read-back
+     * @param resubmissions number of times the read-back was rejected already
+     */
+    private void scheduleConfirmation(List<NECMultisyncControl> pending, long delay, int resubmissions) {
+        if (pending.isEmpty() || destroyed) {
+            return;
+        }
+        ScheduledFuture<?>[] scheduled = new ScheduledFuture<?>[1];
+        scheduled[0] = NECMultisyncIOExecutor.schedule(() -> {
+            confirmations.remove(scheduled[0]);
+            runConfirmation(pending, delay);
+        }, () -> {
+            confirmations.remove(scheduled[0]);
+            if (resubmissions < NECMultisyncConstants.CONFIRMATION_MAX_RESUBMISSIONS) {
+                scheduleConfirmation(pending, delay, resubmissions + 1);
+            } else {
+                abandonConfirmation(pending);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+        confirmations.add(scheduled[0]);
+        if (destroyed) {
+            //destroy() ran while the read-back was scheduled, it didn't see it
+            scheduled[0].cancel(false);
+        }
+    }
+
+    /**
+     * Gives up on controls whose read-back couldn't be run: they are no longer reported as set, the next statistics
+     * cycle reads the properties again and reports the failure
+     *
+     * @param pending controls not confirmed yet
+     */
+    private void abandonConfirmation(List<NECMultisyncControl> pending) {
+        for (NECMultisyncControl control : pending) {
+            if (control.isCurrent()) {
+                failControl(control, null);
+            }
+        }
+    }
+
+    /**
+     * Reads back the controlled properties of pending controls, all of them in one exchange. Controls reported by the
+     * displays are confirmed, the others are read back again later, or reported as failed once they timed out: their
+     * value is then reverted to the value read back, and the failure is reported in the next statistics.
+     * Commands deferred until a display is powered on are sent first, once the power control is confirmed, or fail
+     * with the power control.
+     *
+     * @param pending controls not confirmed yet
+     * @param delay time in milliseconds waited before this read-back
+     */
+    private void runConfirmation(List<NECMultisyncControl> pending, long delay) {
+        commandQueue.acquire(NECMultisyncCommandQueue.Priority.BACKGROUND);
+        try {
+            //a later control of the same property replaces this one
+            pending.removeIf(control -> !control.isCurrent());
+            if (pending.isEmpty() || destroyed) {
+                return;
+            }
+            sendDeferredCommands(pending);
+            Map<NECMultisyncControl, String> values = readControlledValues(pending.stream().filter(control -> control.getDeferredCommand() == null).collect(Collectors.toList()));
+            long now = System.nanoTime();
+            long nextDelay = Math.min(delay * 2, NECMultisyncConstants.CONFIRMATION_MAX_DELAY);
+            pending.removeIf(control -> {
+                String current = values.get(control);
+                if (control.getDeferredCommand() == null && control.getValue().equalsIgnoreCase(current)) {
+                    control.confirm();
+                    control.getMonitor().setPendingControl(control.getQuery().getProperty(), null);
+                    return true;
+                }
+                if (!control.isExpiredBefore(now, nextDelay)) {
+                    return false;
+                }
+                failControl(control, current);
+                return true;
+            });
+            //commands waiting for a power control that failed are never sent
+            pending.removeIf(control -> {
+                if (control.getDeferredCommand() == null || !control.isAbandoned()) {
+                    return false;
+                }
+                abandonDeferredCommand(control);
+                return true;
+            });
+            scheduleConfirmation(pending, nextDelay);
+        } finally {
+            commandQueue.release();
+        }
+    }
+
+    /**
+     * Sends the commands deferred until their display is powered on, once its power control is confirmed
+     *
+     * @param pending controls not confirmed yet
+     */
+    private void sendDeferredCommands(List<NECMultisyncControl> pending) {
+        for (NECMultisyncControl control : pending) {
+            byte[] command = control.getDeferredCommand();
+            if (command == null || !control.isReady()) {
+                continue;
+            }
+            try {
+                send(command);
+                control.clearDeferredCommand();
+            } catch (Exception e) {
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Deferred command failed for monitor " + (control.getMonitor().getMonitorID() - 64), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reports a control whose command was deferred until its display is powered on, and the power control failed:
+     * the command is not sent, the value reported before the control is restored and read again by the next statistics
+     *
+     * @param control control whose command was not sent
+     */
+    private void abandonDeferredCommand(NECMultisyncControl control) {
+        NECMultisyncMonitor monitor = control.getMonitor();
+        statisticsProperties property = control.getQuery().getProperty();
+        monitor.setPendingControl(property, null);
+        monitor.cacheValue(property, control.getPreviousValue(), System.currentTimeMillis());
+        monitor.invalidate(property);
+        String error = String.format("%s %s was not sent, the monitor was not powered on", property.name(), control.getValue());
+        monitor.setControlError(error);
+        if (this.logger.isWarnEnabled()) {
+            this.logger.warn("Monitor " + (monitor.getMonitorID() - 64) + " behind: " + this.host + " port: " + this.getPort() + ": " + error);
+        }
+    }
+
+    /**
+     * Reports a control the display didn't confirm: its value is reverted to the value read back
+     *
+     * @param control control that timed out
+     * @param current value read back, null if the display didn't report any
+     */
+    private void failControl(NECMultisyncControl control, String current) {
+        NECMultisyncMonitor monitor = control.getMonitor();
+        statisticsProperties property = control.getQuery().getProperty();
+        monitor.setPendingControl(property, null);
+        if (current == null) {
+            monitor.invalidate(property);
+        } else {
+            monitor.cacheValue(property, current, System.currentTimeMillis());
+        }
+        String error = String.format("%s %s was not confirmed, the monitor reports %s", property.name(), control.getValue(), current == null ? "no value" : current);
+        monitor.setControlError(error);
+        if (this.logger.isWarnEnabled()) {
+            this.logger.warn("Monitor " + (monitor.getMonitorID() - 64) + " behind: " + this.host + " port: " + this.getPort() + ": " + error);
+        }
+    }
+
+    /**
+     * Retrieves the value of a controlled property from a read-back reply
+     *
+     * @param query query reading the controlled property
+     * @param response reply to the query, null if the display didn't reply
+     * @return String value as reported in statistics, null if the reply holds no value
+     */
+    private String getControlledValue(NECMultisyncQuery query, byte[] response) {
+        if (response == null) {
+            return null;
+        }
+        try {
+            if (query == NECMultisyncQuery.POWER) {
+                powerStatus power = digestResponse(response, responseValues.POWER_STATUS_READ) ? NECMultisyncResponseDecoder.getPowerStatus(response, 0) : null;
+                return power == null ? null : power == powerStatus.ON ? NECMultisyncConstants.NUMBER_ONE : NECMultisyncConstants.ZERO;
+            }
+            String input = getInputValueFromResponse(response);
+            return NECMultisyncConstants.NONE.equals(input) ? null : input;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the controlled property of each control. The queries are sent in one exchange, pipelined when
+     * {@link #getActivePipelineDepth()} allows it, and replies are matched to the controls by source address and reply type.
+     * If the pipelined exchange fails, the queries are sent again one at a time, skipping displays that don't reply.
+     *
+     * @param controls controls to read back
+     * @return Map<NECMultisyncControl, String> value reported for each control, controls without reply are left out
+     */
+    private Map<NECMultisyncControl, String> readControlledValues(List<NECMultisyncControl> controls) {
+        Map<NECMultisyncControl, String> values = new HashMap<>();
+        if (controls.isEmpty()) {
+            return values;
+        }
+        byte[][] frames = new byte[controls.size()][];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = controls.get(i).getQuery().getFrame(controls.get(i).getMonitor().getMonitorID());
+        }
+        byte[][] received = null;
+        int depth = getActivePipelineDepth();
+        if (depth > 1) {
+            try {
+                int timeout = getReplyTimeout(frames);
+                received = NECMultisyncIOExecutor.execute(() -> exchange(frames, c -> c.exchangeAll(frames, depth, timeout)),
+                        this::closeConnection, getExchangeDeadline(frames.length, timeout), TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Pipelined read-back failed for: " + this.host + " port: " + this.getPort() + ", querying monitors one at a time", e);
+                }
+            }
+        }
+        if (received == null) {
+            try {
+                int timeout = getReplyTimeout(frames);
+                received = NECMultisyncIOExecutor.execute(() -> exchange(frames, c -> c.exchangeEach(frames, timeout)),
+                        this::closeConnection, getExchangeDeadline(frames.length * (1 + NECMultisyncConstants.MAX_FRAME_RETRIES), timeout), TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Read-back failed for: " + this.host + " port: " + this.getPort(), e);
+                }
+                return values;
+            }
+        }
+        for (byte[] reply : received) {
+            if (reply == null || reply.length <= 3) {
+                continue;
+            }
+            responseValues replyType = NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length);
+            for (NECMultisyncControl control : controls) {
+                NECMultisyncQuery query = control.getQuery();
+                if ((reply[3] & 0xFF) == control.getMonitor().getMonitorID() && replyType == query.getReplyType()) {
+                    values.put(control, getControlledValue(query, reply));
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Updates the cached power properties of a display after a power control, the input control is only
+     * available while the display is powered on
+     *
+     * @param draft statistics edited by the control
+     * @param monitor controlled display
+     * @param on whether the display is powered on
+     */
+    private void updatePowerProperties(ExtendedStatistics draft, NECMultisyncMonitor monitor, boolean on) {
+        Map<String, String> stats = draft.getStatistics();
+        List<AdvancedControllableProperty> advancedControllableProperties = draft.getControllableProperties();
+        String powerProperty = monitor.getPropertyName(statisticsProperties.Power.name());
+        String powerValue = on ? NECMultisyncConstants.NUMBER_ONE : NECMultisyncConstants.ZERO;
+        stats.put(powerProperty, powerValue);
+        advancedControllableProperties.stream().filter(acp -> acp.getName().equals(powerProperty)).findFirst().ifPresent(acp -> {
+            acp.setTimestamp(new Date());
+            acp.setValue(powerValue);
+        });
+        String inputProperty = monitor.getPropertyName(statisticsProperties.Input.name());
+        String inputValue = stats.get(inputProperty);
+        //the display may reset its sensor selection on a power transition
+        monitor.setSelectedSensor(0, 0);
+        if (on) {
+            //values cached before the display went to standby are outdated
+            monitor.invalidate(statisticsProperties.Temperature);
+            addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(inputProperty, getInputNamesArray(), inputValue), inputValue);
+        } else {
+            removeValueForTheControllableProperty(stats, advancedControllableProperties, inputProperty);
+            stats.put(inputProperty, inputValue);
+        }
+        stats.put(monitor.getPropertyName(statisticsProperties.Temperature.name() + "(C)"), monitor.getCachedValue(statisticsProperties.Temperature));
+        monitor.cacheValue(statisticsProperties.Power, powerValue, System.currentTimeMillis());
+    }
+
+    /**
+     * Updates the cached input properties of a display after an input control
+     *
+     * @param draft statistics edited by the control
+     * @param monitor controlled display
+     * @param value new input name
+     */
+    private void updateInputProperties(ExtendedStatistics draft, NECMultisyncMonitor monitor, String value) {
+        String inputProperty = monitor.getPropertyName(statisticsProperties.Input.name());
+        draft.getStatistics().put(inputProperty, value);
+        monitor.cacheValue(statisticsProperties.Input, value, System.currentTimeMillis());
+        draft.getControllableProperties().stream().filter(acp -> acp.getName().equals(inputProperty)).findFirst().ifPresent(acp -> {
+            acp.setTimestamp(new Date());
+            acp.setValue(value);
+        });
+    }
+
+    /**
+     * Retrieves the display a controllable property belongs to
+     *
+     * @param propertyName full name of the property
+     * @return NECMultisyncMonitor display of the property
+     * @throws IllegalArgumentException if the property belongs to no polled display
+     */
+    private NECMultisyncMonitor getMonitorByProperty(String propertyName) {
+        for (NECMultisyncMonitor monitor : monitors) {
+            if (monitor.isOwnProperty(propertyName)) {
+                return monitor;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Can't control %s, the property belongs to no polled monitor", propertyName));
+    }
+
+    /**
+     * This method is recalled by Symphony to control a list of properties.
+     * The list is run as a batch: writes to the same property are collapsed (the last one wins), displays are powered
+     * on before their input is switched and switched before they are powered off, every command is sent within one
+     * hold of the device, and all the controls are confirmed together.
+     * @param controllableProperties This is the list of properties to be controlled
+     */
+    @Override
+    public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
+        Map<String, String> batch = new LinkedHashMap<>();
+        for (ControllableProperty controllableProperty : controllableProperties) {
+            batch.put(controllableProperty.getProperty(), String.valueOf(controllableProperty.getValue()));
+        }
+        List<Map.Entry<String, String>> ordered = new ArrayList<>(batch.entrySet());
+        ordered.sort(Comparator.comparingInt(entry -> getControlOrder(entry.getKey(), entry.getValue())));
+
+        List<NECMultisyncControl> controls = new ArrayList<>();
+        Map<NECMultisyncMonitor, NECMultisyncControl> poweringOn = new HashMap<>();
+        commandQueue.acquire(NECMultisyncCommandQueue.Priority.CONTROL);
+        ExtendedStatistics draft = copyStatistics(localStatistics);
+        try {
+            for (Map.Entry<String, String> entry : ordered) {
+                try {
+                    applyControl(draft, entry.getKey(), entry.getValue(), controls, poweringOn);
+                } catch (Exception e) {
+                    logger.error("Unable to execute control properties.", e);
+                }
+            }
+        } finally {
+            if (!draft.getStatistics().isEmpty()) {
+                localStatistics = publishStatistics(draft.getStatistics(), draft.getDynamicStatistics(), draft.getControllableProperties());
+            }
+            commandQueue.release();
+            scheduleConfirmation(controls, NECMultisyncConstants.CONFIRMATION_INITIAL_DELAY);
+        }
+    }
+
+    /**
+     * Retrieves the position of a control in a batch
+     *
+     * @param property full name of the controlled property
+     * @param value new value of the property
+     * @return int 0 for a power on, 1 for an input change, 2 for a power off
+     */
+    private static int getControlOrder(String property, String value) {
+        if (property.endsWith(controlProperties.Power.name())) {
+            return NECMultisyncConstants.NUMBER_ONE.equals(value) ? 0 : 2;
+        }
+        return 1;
+    }
+
+    /**
+     * This method is recalled by Symphony to get the list of statistics to be displayed.
+     * Statistics are published as an immutable snapshot: when a control or another refresh holds the device,
+     * the last published snapshot is returned at once instead of waiting for the device.
+     * While the display is considered down (see {@link NECMultisyncCircuitBreaker}), the last snapshot is returned
+     * marked stale without sending anything, until the display replies to a probe.
+     * With {@link #statisticsMaxAge} set, the snapshot is always returned at once and refreshed in the background once
+     * it is older than that age; a failed background refresh is reported to the next call.
+     * @return List<Statistics> This return the list of statistics.
+     */
+    @Override
+    public List<Statistics> getMultipleStatistics() throws Exception {
+        ExtendedStatistics snapshot = localStatistics;
+        if (statisticsMaxAge == 0 || snapshot == null) {
+            return retrieveStatistics(false);
+        }
+        if (System.nanoTime() - statisticsTimestamp >= TimeUnit.MILLISECONDS.toNanos(statisticsMaxAge)) {
+            scheduleRefresh();
+        }
+        Exception error = refreshError.getAndSet(null);
+        if (error != null) {
+            throw error;
+        }
+        return Collections.singletonList(getCachedStatistics(snapshot));
+    }
+
+    /**
+     * Refreshes the statistics on the shared refresh pool, unless a refresh is already running
+     */
+    private void scheduleRefresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        NECMultisyncIOExecutor.refresh(() -> {
+            try {
+                if (!destroyed) {
+                    retrieveStatistics(true);
+                }
+            } catch (Exception e) {
+                refreshError.set(e);
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Background statistics refresh of: " + this.host + " port: " + this.getPort() + " failed", e);
+                }
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    /**
+     * Returns the last published snapshot without refreshing it
+     *
+     * @param snapshot last published snapshot
+     * @return ExtendedStatistics statistics and controls of the snapshot, marked stale while the display is considered down
+     */
+    private ExtendedStatistics getCachedStatistics(ExtendedStatistics snapshot) {
+        if (circuitBreaker.getState() != NECMultisyncCircuitBreaker.State.CLOSED) {
+            return getStaleStatistics(snapshot);
+        }
+        ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+        extendedStatistics.setStatistics(snapshot.getStatistics());
+        extendedStatistics.setControllableProperties(snapshot.getControllableProperties());
+        return extendedStatistics;
+    }
+
+    /**
+     * Runs a statistics cycle and publishes its snapshot
+     *
+     * @param background whether the cycle runs in the background, it then waits for controls holding the device
+     * instead of returning the last snapshot
+     * @return List<Statistics> statistics of the cycle, or the last snapshot if the cycle was skipped
+     * @throws Exception if the displays could not be reached
+     */
+    private List<Statistics> retrieveStatistics(boolean background) throws Exception {
+        ExtendedStatistics snapshot = localStatistics;
+        NECMultisyncCircuitBreaker.State circuitState = circuitBreaker.check(System.currentTimeMillis());
+        if (circuitState == NECMultisyncCircuitBreaker.State.OPEN) {
+            return Collections.singletonList(getStaleStatistics(snapshot));
+        }
+        if (snapshot == null || background && !isValidShutdownStartupCooldown()) {
+            //the first refresh, and background refreshes, wait for the device
+            commandQueue.acquire(NECMultisyncCommandQueue.Priority.BACKGROUND);
+        } else if (isValidShutdownStartupCooldown() || !commandQueue.tryAcquire(NECMultisyncCommandQueue.Priority.BACKGROUND)) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Device is occupied. Skipping statistics refresh call.");
+            }
+            return Collections.singletonList(getCachedStatistics(snapshot));
+        }
+        ExtendedStatistics extendedStatistics;
+        long cycleStartTime = System.nanoTime();
+        try {
+            if (circuitState == NECMultisyncCircuitBreaker.State.HALF_OPEN && !probe()) {
+                return Collections.singletonList(getStaleStatistics(snapshot));
+            }
+
+            //controls
+            List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+            //statistics
+            Map<String, String> statistics = new HashMap<>();
+            Map<String, String> dynamicStatistics = new HashMap<>();
+
+            //displays that replied during the previous cycle are polled first, so unreachable ones can't delay them
+            List<NECMultisyncMonitor> sweep = new ArrayList<>(monitors);
+            sweep.sort(Comparator.comparing(monitor -> !monitor.isReachable()));
+            boolean grouped = sweep.size() > 1;
+            int reachableCount = 0;
+            long framesBefore = receivedFrames.get();
+            long[] responseTimes = new long[sweep.size()];
+            long deadline = System.nanoTime() + (statisticsTimeBudget > 0 ? TimeUnit.MILLISECONDS.toNanos(statisticsTimeBudget) : Long.MAX_VALUE / 2);
+            for (int i = 0; i < sweep.size(); i++) {
+                NECMultisyncMonitor monitor = sweep.get(i);
+                long startTime = System.nanoTime();
+                try {
+                    //a display skipped for lack of time is reported as it was during the previous cycle
+                    if (refreshMonitor(monitor, deadline)) {
+                        monitor.setReachable(true);
+                    }
+                    if (monitor.isReachable()) {
+                        reachableCount++;
+                    }
+                } catch (ResourceNotReachableException e) {
+                    if (!grouped) {
+                        onCycleFailure(framesBefore);
+                        throw e;
+                    }
+                    monitor.setReachable(false);
+                    //an unreachable display is only probed, its missing replies don't keep growing its timeout
+                    rttEstimator.resetBackoff(monitor.getMonitorID());
+                    if (this.logger.isWarnEnabled()) {
+                        this.logger.warn("Monitor " + (monitor.getMonitorID() - 64) + " behind: " + this.host + " port: " + this.getPort() + " is not reachable. " + e.getMessage());
+                    }
+                }
+                responseTimes[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            }
+            if (reachableCount == 0) {
+                onCycleFailure(framesBefore);
+                throw new ResourceNotReachableException(NECMultisyncConstants.MESSAGE_ERROR + "None of the monitors replied.");
+            }
+            circuitBreaker.onSuccess();
+            //statistics are built once every display is polled, so controls sent while the cycle was preempted are reported
+            for (int i = 0; i < sweep.size(); i++) {
+                NECMultisyncMonitor monitor = sweep.get(i);
+                if (monitor.isReachable() && monitor.getCachedValue(statisticsProperties.Power) != null) {
+                    addMonitorStatistics(monitor, statistics, dynamicStatistics, advancedControllableProperties);
+                    addRefreshErrors(monitor, statistics);
+                    String controlError = monitor.takeControlError();
+                    if (controlError != null) {
+                        statistics.put(monitor.getPropertyName(NECMultisyncConstants.CONTROL_ERROR), controlError);
+                    }
+                }
+                if (grouped) {
+                    statistics.put(monitor.getPropertyName(NECMultisyncConstants.MONITOR_STATUS),
+                            monitor.isReachable() ? NECMultisyncConstants.STATUS_ONLINE : NECMultisyncConstants.STATUS_UNREACHABLE);
+                    statistics.put(monitor.getPropertyName(NECMultisyncConstants.MONITOR_RESPONSE_TIME), String.valueOf(responseTimes[i]));
+                }
+            }
+            if (grouped) {
+                addGroupControls(statistics, advancedControllableProperties);
+            }
+            NECMultisyncCommandMetrics metrics = commandMetrics;
+            if (metrics != null) {
+                metrics.addStatistics(statistics);
+            }
+
+            extendedStatistics = publishStatistics(statistics, dynamicStatistics, advancedControllableProperties);
+            localStatistics = extendedStatistics;
+            statisticsTimestamp = System.nanoTime();
+            //Displays the generated list of controllable and statistics properties for debugging purposes
+            if (this.logger.isDebugEnabled()) {
+                for (AdvancedControllableProperty controlProperty : advancedControllableProperties) {
+                    this.logger.debug("controllable key: " + controlProperty.getName() + ",value: " + controlProperty.getValue());
+                }
+                for (String s : statistics.keySet()) {
+                    this.logger.debug("statistics key: " + s + ",value: " + statistics.get(s));
+                }
+                NECMultisyncHistogram controlWaitTimes = commandQueue.getWaitTimes(NECMultisyncCommandQueue.Priority.CONTROL);
+                this.logger.debug("command queue depth: " + commandQueue.getDepth() + ", preemptions: " + commandQueue.getPreemptionCount()
+                        + ", control wait p50: " + controlWaitTimes.getPercentile(50) + "us, p99: " + controlWaitTimes.getPercentile(99) + "us"
+                        + ", command interval: " + TimeUnit.NANOSECONDS.toMillis(pacer.getGap()) + "ms"
+                        + ", round trip time: " + Math.round(rttEstimator.getSmoothedRtt()) + "ms, reply timeout: " + rttEstimator.getTimeout() + "ms"
+                        + ", circuit opened: " + circuitBreaker.getOpenCount() + " times"
+                        + ", check code errors: " + getConnectionInstance().getChecksumErrorCount() + ", resynchronizations: " + getConnectionInstance().getResyncCount()
+                        + ", retries: " + getConnectionInstance().getRetryCount());
+            }
+        } catch (Exception e) {
+            recordCycle(cycleStartTime, e);
+            throw e;
+        } finally {
+            commandQueue.release();
+        }
+        recordCycle(cycleStartTime, null);
+        return Collections.singletonList(extendedStatistics);
+    }
+
+    /**
+     * Records the duration and outcome of a statistics cycle in the MBean, if it is registered
+     *
+     * @param startTime {@link System#nanoTime()} the cycle started at
+     * @param error error the cycle failed with, null if it succeeded
+     */
+    private void recordCycle(long startTime, Exception error) {
+        NECMultisyncMetrics metrics = mBean;
+        if (metrics != null) {
+            metrics.onCycle(System.nanoTime() - startTime, error);
+        }
+    }
+
+    /**
+     * Abandons the statistics cycle if its query failed because the polling thread was interrupted: the display is
+     * neither unreachable nor partially refreshed, and the interrupt is kept for the caller
+     *
+     * @param e cause of the failure of the query
+     * @throws CancellationException if the polling thread was interrupted
+     */
+    private void abortIfInterrupted(Exception e) {
+        if (e instanceof InterruptedException || Thread.currentThread().isInterrupted()) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Statistics cycle of: " + this.host + " port: " + this.getPort() + " was interrupted");
+        }
+    }
+
+    /**
+     * Records a failed statistics cycle for the circuit breaker. A display that replied during the cycle, even with
+     * refused or corrupted replies, is reachable: only cycles without any reply count as failures.
+     *
+     * @param framesBefore number of frames received before the cycle
+     */
+    private void onCycleFailure(long framesBefore) {
+        if (receivedFrames.get() == framesBefore) {
+            circuitBreaker.onFailure(System.currentTimeMillis());
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    /**
+     * Probes a display considered down with a single power status query, the circuit closes if it replies
+     *
+     * @return boolean true if the display replied, the statistics cycle may run
+     */
+    private boolean probe() {
+        NECMultisyncMonitor monitor = monitors.stream().filter(NECMultisyncMonitor::isReachable).findFirst().orElse(monitors.get(0));
+        long framesBefore = receivedFrames.get();
+        try {
+            getPower(monitor, Collections.emptyMap());
+            circuitBreaker.onSuccess();
+            return true;
+        } catch (Exception e) {
+            abortIfInterrupted(e);
+            onCycleFailure(framesBefore);
+            if (circuitBreaker.getState() == NECMultisyncCircuitBreaker.State.CLOSED) {
+                //the display replied, the cycle reports the error
+                return true;
+            }
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Display at: " + this.host + " port: " + this.getPort() + " did not reply to the probe, next probe in "
+                        + Math.max(0, circuitBreaker.getNextProbe() - System.currentTimeMillis()) + "ms", e);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Retrieves the last statistics published, marked stale, while the display is considered down
+     *
+     * @param snapshot last published snapshot, null if nothing was published yet
+     * @return ExtendedStatistics copy of the snapshot, the status of every display reachable when it was published is stale
+     * @throws ResourceNotReachableException if nothing was published yet
+     */
+    private ExtendedStatistics getStaleStatistics(ExtendedStatistics snapshot) {
+        if (snapshot == null) {
+            throw new ResourceNotReachableException(NECMultisyncConstants.MESSAGE_ERROR + "Display is not reachable, next attempt in "
+                    + TimeUnit.MILLISECONDS.toSeconds(Math.max(0, circuitBreaker.getNextProbe() - System.currentTimeMillis())) + "s.");
+        }
+        Map<String, String> statistics = new HashMap<>(snapshot.getStatistics());
+        if (monitors.size() > 1) {
+            for (NECMultisyncMonitor monitor : monitors) {
+                statistics.replace(monitor.getPropertyName(NECMultisyncConstants.MONITOR_STATUS), NECMultisyncConstants.STATUS_ONLINE, NECMultisyncConstants.STATUS_STALE);
+            }
+        } else {
+            statistics.put(NECMultisyncConstants.MONITOR_STATUS, NECMultisyncConstants.STATUS_STALE);
+        }
+        ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+        extendedStatistics.setStatistics(statistics);
+        extendedStatistics.setControllableProperties(snapshot.getControllableProperties());
+        return extendedStatistics;
+    }
+
+    /**
+     * Builds an immutable snapshot of statistics, it is never modified once published
+     *
+     * @param statistics statistics to publish
+     * @param dynamicStatistics historical statistics to publish
+     * @param advancedControllableProperties controls to publish
+     * @return ExtendedStatistics snapshot holding unmodifiable copies of the statistics and controls
+     */
+    private static ExtendedStatistics publishStatistics(Map<String, String> statistics, Map<String, String> dynamicStatistics,
+            List<AdvancedControllableProperty> advancedControllableProperties) {
+        ExtendedStatistics snapshot = new ExtendedStatistics();
+        snapshot.setStatistics(Collections.unmodifiableMap(new HashMap<>(statistics)));
+        snapshot.setDynamicStatistics(Collections.unmodifiableMap(new HashMap<>(dynamicStatistics)));
+        snapshot.setControllableProperties(Collections.unmodifiableList(new ArrayList<>(advancedControllableProperties)));
+        return snapshot;
+    }
+
+    /**
+     * Copies a published snapshot, so a control can edit statistics and controls without affecting readers
+     *
+     * @param snapshot published snapshot, null if nothing was published yet
+     * @return ExtendedStatistics modifiable copy, controls are copied as well
+     */
+    private static ExtendedStatistics copyStatistics(ExtendedStatistics snapshot) {
+        ExtendedStatistics copy = new ExtendedStatistics();
+        copy.setStatistics(snapshot == null ? new HashMap<>() : new HashMap<>(snapshot.getStatistics()));
+        copy.setDynamicStatistics(snapshot == null || snapshot.getDynamicStatistics() == null ? new HashMap<>() : new HashMap<>(snapshot.getDynamicStatistics()));
+        List<AdvancedControllableProperty> controls = new ArrayList<>();
+        if (snapshot != null) {
+            for (AdvancedControllableProperty control : snapshot.getControllableProperties()) {
+                controls.add(new AdvancedControllableProperty(control.getName(), control.getTimestamp(), control.getType(), control.getValue()));
+            }
+        }
+        copy.setControllableProperties(controls);
+        return copy;
+    }
+
+    /**
+     * Adds the controls applied to every display of the chain at once. The power switch is on when every reachable
+     * display is powered on, the input shows the input shared by the displays powered on, if any.
+     *
+     * @param statistics statistics of the cycle
+     * @param advancedControllableProperties controls of the cycle
+     */
+    private void addGroupControls(Map<String, String> statistics, List<AdvancedControllableProperty> advancedControllableProperties) {
+        boolean allOn = true;
+        Set<String> inputValues = new HashSet<>();
+        for (NECMultisyncMonitor monitor : monitors) {
+            if (!monitor.isReachable()) {
+                continue;
+            }
+            if (NECMultisyncConstants.NUMBER_ONE.equals(statistics.get(monitor.getPropertyName(statisticsProperties.Power.name())))) {
+                inputValues.add(statistics.get(monitor.getPropertyName(statisticsProperties.Input.name())));
+            } else {
+                allOn = false;
+            }
+        }
+        AdvancedControllableProperty.Switch powerSwitch = new AdvancedControllableProperty.Switch();
+        powerSwitch.setLabelOn("On");
+        powerSwitch.setLabelOff("Off");
+        String powerValue = allOn ? NECMultisyncConstants.NUMBER_ONE : NECMultisyncConstants.ZERO;
+        String powerProperty = NECMultisyncConstants.GROUP_ALL_MONITORS + controlProperties.Power.name();
+        advancedControllableProperties.add(new AdvancedControllableProperty(powerProperty, new Date(), powerSwitch, powerValue));
+        statistics.put(powerProperty, powerValue);
+        String inputValue = inputValues.size() == 1 ? inputValues.iterator().next() : NECMultisyncConstants.EMPTY;
+        addAdvancedControlProperties(advancedControllableProperties, statistics,
+                createDropdown(NECMultisyncConstants.GROUP_ALL_MONITORS + controlProperties.Input.name(), getInputNamesArray(), inputValue), inputValue);
+    }
+
+    /**
+     * Retrieves the statistics properties of one display that are due for a refresh, and caches them.
+     * Before each query the connection is handed over to controls waiting for it; properties controlled meanwhile
+     * are not refreshed, as the display may not have applied the control yet.
+     * A query that fails once the display replied to another one, or that can't start within the time budget,
+     * doesn't fail the display: the error is recorded on its property and the remaining queries are sent.
+     *
+     * @param monitor display to poll
+     * @param deadline {@link System#nanoTime()} after which no query is started
+     * @return boolean false if the time budget was exceeded before any query was sent, the display was not polled
+     * @throws ResourceNotReachableException if the display didn't reply to any query
+     */
+    private boolean refreshMonitor(NECMultisyncMonitor monitor, long deadline) {
+        //only the queries of properties due for a refresh are sent, other properties are reported from the cache.
+        //A display in standby is only sent a power status heartbeat (and the slow self diagnosis), as it refuses or
+        //answers stale data to input and temperature queries
+        long now = System.currentTimeMillis();
+        //a closed connection is reopened by the first query of the cycle, the sensor is selected again on the new connection
+        NECMultisyncConnection current = getConnectionInstance();
+        int connectionGeneration = current.isOpen() ? current.getGeneration() : -1;
+        String lastPowerValue = monitor.getCachedValue(statisticsProperties.Power);
+        boolean standby = lastPowerValue != null && !NECMultisyncConstants.NUMBER_ONE.equals(lastPowerValue);
+        List<NECMultisyncQuery> dueQueries = new ArrayList<>();
+        for (NECMultisyncQuery query : NECMultisyncQuery.values()) {
+            statisticsProperties property = query.getProperty();
+            if (standby && (property == statisticsProperties.Input || property == statisticsProperties.Temperature)) {
+                continue;
+            }
+            //a display switching its power after a control is not polled, pending controls are reported as set
+            if (isControlled(monitor, property)) {
+                continue;
+            }
+            //the sensor selection sticks until the connection is reopened, the power state changes or another sensor is configured
+            if (query == NECMultisyncQuery.SENSOR_SELECT && monitor.isSensorSelected(temperatureSensor, connectionGeneration)) {
+                continue;
+            }
+            long refreshInterval = standby && property == statisticsProperties.Power ? standbyRefreshIntervalValue : refreshIntervalValues[property.ordinal()];
+            if (monitor.isRefreshDue(property, refreshInterval, now)) {
+                dueQueries.add(query);
+            }
+        }
+
+        if (!dueQueries.isEmpty() && System.nanoTime() - deadline >= 0) {
+            for (NECMultisyncQuery query : dueQueries) {
+                monitor.setRefreshError(query.getProperty(), NECMultisyncConstants.TIME_BUDGET_EXCEEDED);
+            }
+            return false;
+        }
+        long framesBefore = receivedFrames.get();
+        boolean failed = false;
+
+        //replies of the pipelined queries, empty in sequential mode
+        int depth = getActivePipelineDepth();
+        Map<NECMultisyncQuery, byte[]> replies = sendPipelined(dueQueries.toArray(new NECMultisyncQuery[0]), monitor, depth);
+
+        //getting power status from device
+        try {
+            if (startQuery(monitor, dueQueries, NECMultisyncQuery.POWER, replies, deadline)) {
+                String power = getPower(monitor, replies).name();
+                monitor.cacheValue(statisticsProperties.Power, power.contains("ON") ? NECMultisyncConstants.NUMBER_ONE : NECMultisyncConstants.ZERO, now);
+                if (lastPowerValue != null && !lastPowerValue.equals(monitor.getCachedValue(statisticsProperties.Power))) {
+                    monitor.setSelectedSensor(0, 0);
+                }
+                if (standby && power.contains("ON")) {
+                    //the display left standby, the full set of queries resumes in this cycle
+                    dueQueries.add(NECMultisyncQuery.INPUT);
+                    dueQueries.add(NECMultisyncQuery.SENSOR_SELECT);
+                    dueQueries.add(NECMultisyncQuery.TEMPERATURE);
+                } else if (dueQueries.contains(NECMultisyncQuery.TEMPERATURE) && !dueQueries.contains(NECMultisyncQuery.SENSOR_SELECT)
+                        && !monitor.isSensorSelected(temperatureSensor, connectionGeneration)) {
+                    //power transition within the cycle, the sensor is selected again before the temperature is read
+                    dueQueries.add(dueQueries.indexOf(NECMultisyncQuery.TEMPERATURE), NECMultisyncQuery.SENSOR_SELECT);
+                }
+            }
+        } catch (Exception e) {
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("error during getPower", e);
+            }
+            onRefreshFailure(monitor, statisticsProperties.Power, e, framesBefore);
+            failed = true;
+        }
+
+        //getting diagnostic result from device
+        try {
+            if (startQuery(monitor, dueQueries, NECMultisyncQuery.DIAGNOSIS, replies, deadline)) {
+                monitor.cacheValue(statisticsProperties.Diagnosis, NECMultisyncDiagnosisEnum.getValueByName(getDiagResult(monitor, replies).name()), now);
+            }
+        } catch (Exception e) {
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("error during getDiagResult", e);
+            }
+            onRefreshFailure(monitor, statisticsProperties.Diagnosis, e, framesBefore);
+            failed = true;
+        }
 
-    /**
-     * Constructor set the TCP/IP port to be used as well the default monitor ID
-     */
-    public NECMultisyncDevice() {
-        super();
+        //getting current device input
+        try {
+            if (startQuery(monitor, dueQueries, NECMultisyncQuery.INPUT, replies, deadline)) {
+                monitor.cacheValue(statisticsProperties.Input, getInput(monitor, replies).name(), now);
+            }
+        } catch (Exception e) {
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("error during getInput", e);
+            }
+            onRefreshFailure(monitor, statisticsProperties.Input, e, framesBefore);
+            failed = true;
+        }
 
-        this.setPort(7142);
-        this.monitorID = 1+64;
+        //getting device temperature
+        try {
+            if (startQuery(monitor, dueQueries, NECMultisyncQuery.TEMPERATURE, replies, deadline)) {
+                //a query that failed earlier in the cycle may have closed the connection, the sensor is selected again on the new one
+                NECMultisyncConnection reconnected = getConnectionInstance();
+                boolean selectSensor = dueQueries.contains(NECMultisyncQuery.SENSOR_SELECT)
+                        || failed && !monitor.isSensorSelected(temperatureSensor, reconnected.isOpen() ? reconnected.getGeneration() : -1);
+                monitor.cacheValue(statisticsProperties.Temperature, String.valueOf(getTemperature(monitor, replies, selectSensor)), now);
+            }
+        } catch (Exception e) {
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("error during getTemperature", e);
+            }
+            onRefreshFailure(monitor, statisticsProperties.Temperature, e, framesBefore);
+            failed = true;
+        }
 
-        // set list of command success strings (included at the end of response when command succeeds, typically ending with command prompt)
-        this.setCommandSuccessList(Collections.singletonList("\r"));
-        // set list of error response strings (included at the end of response when command fails, typically ending with command prompt)
-        this.setCommandErrorList(Collections.singletonList("ERROR"));
+        if (depth > 1 && dueQueries.size() > 1 && replies.isEmpty() && !failed) {
+            //pipelined queries failed while the same queries sent one by one succeeded: the model may not tolerate pipelining,
+            //or the failure was transient, pipelining is suspended for a while and tried again
+            if (this.logger.isWarnEnabled()) {
+                this.logger.warn("Display at: " + this.host + " port: " + this.getPort() + " did not accept pipelined queries, falling back to sequential queries for "
+                        + pipelineRetryInterval + "s");
+            }
+            sequentialUntil = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(pipelineRetryInterval);
+        }
+        return true;
     }
 
     /**
-     * Retrieves {@link #historicalProperties}
+     * Records a failed query of a statistics cycle
      *
-     * @return value of {@link #historicalProperties}
+     * @param monitor display queried
+     * @param property property refreshed by the query
+     * @param e cause of the failure
+     * @param framesBefore number of frames received before the display was polled
+     * @throws ResourceNotReachableException if the display didn't reply to any query of the cycle
+     * @throws CancellationException if the polling thread was interrupted
      */
-    public String getHistoricalProperties() {
-        return String.join(",", this.historicalProperties);
+    private void onRefreshFailure(NECMultisyncMonitor monitor, statisticsProperties property, Exception e, long framesBefore) {
+        abortIfInterrupted(e);
+        if (receivedFrames.get() == framesBefore) {
+            throw new ResourceNotReachableException(NECMultisyncConstants.MESSAGE_ERROR + e.getMessage());
+        }
+        //the display replies, a single slow or unsupported query must not make it look unreachable
+        monitor.setRefreshError(property, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        if (this.logger.isWarnEnabled()) {
+            this.logger.warn("Unable to refresh " + property.name() + " of monitor " + (monitor.getMonitorID() - 64) + " behind: " + this.host
+                    + " port: " + this.getPort() + ", the last value retrieved is reported. " + e.getMessage());
+        }
     }
 
     /**
-     * Sets {@link #historicalProperties} value
+     * Adds the error and the time of the last update of the properties of a display that could not be refreshed
      *
-     * @param historicalProperties new value of {@link #historicalProperties}
+     * @param monitor display polled
+     * @param statistics statistics of the cycle
      */
-    public void setHistoricalProperties(String historicalProperties) {
-        this.historicalProperties.clear();
-        Arrays.asList(historicalProperties.split(",")).forEach(propertyName -> {
-            this.historicalProperties.add(propertyName.trim());
-        });
+    private static void addRefreshErrors(NECMultisyncMonitor monitor, Map<String, String> statistics) {
+        for (statisticsProperties property : statisticsProperties.values()) {
+            String error = monitor.getRefreshError(property);
+            if (error == null) {
+                continue;
+            }
+            statistics.put(monitor.getPropertyName(property.name() + NECMultisyncConstants.REFRESH_ERROR), error);
+            long refreshTimestamp = monitor.getRefreshTimestamp(property);
+            statistics.put(monitor.getPropertyName(property.name() + NECMultisyncConstants.LAST_UPDATE),
+                    refreshTimestamp > 0 ? Instant.ofEpochMilli(refreshTimestamp).toString() : NECMultisyncConstants.NONE);
+        }
     }
 
     /**
-     * This method is recalled by Symphony to control specific property
+     * Frame boundary of a statistics cycle: controls waiting for the connection are sent before the next query
      *
-     * @param controllableProperty This is the property to be controlled
+     * @param monitor display to query
+     * @param dueQueries queries due in this cycle
+     * @param query next query of the cycle
+     * @param replies replies already received for the cycle, a query already answered sends nothing
+     * @param deadline {@link System#nanoTime()} after which no query is started, the query is skipped with an error
+     * @return boolean true if the query is due, within the time budget, and its property was not controlled meanwhile
      */
-    @Override
-    public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-        reentrantLock.lock();
-        try {
-            String propertyName = controllableProperty.getProperty();
-            String value = String.valueOf(controllableProperty.getValue());
-            Map<String, String> stats = localStatistics.getStatistics();
-            List<AdvancedControllableProperty> advancedControllableProperties = localStatistics.getControllableProperties();
-            if (propertyName.equals(controlProperties.Power.name())) {
-                String inputValue = stats.get(statisticsProperties.Input.name());
-                if (value.equals(NECMultisyncConstants.NUMBER_ONE)) {
-                    powerSwitch(POWER_ON);
-                    addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(statisticsProperties.Input.name(), getInputNamesArray(), inputValue), inputValue);
-                } else if (value.equals(NECMultisyncConstants.ZERO)) {
-                    powerSwitch(POWER_OFF);
-                    removeValueForTheControllableProperty(stats, advancedControllableProperties, statisticsProperties.Input.name());
-                    stats.put(statisticsProperties.Input.name(), inputValue);
-                }
-                stats.put(statisticsProperties.Temperature.name() + "(C)", temperatureValue);
-            } else if (propertyName.equals(controlProperties.Input.name())) {
-                changeInputValue(value);
+    private boolean startQuery(NECMultisyncMonitor monitor, List<NECMultisyncQuery> dueQueries, NECMultisyncQuery query,
+            Map<NECMultisyncQuery, byte[]> replies, long deadline) {
+        if (!dueQueries.contains(query)) {
+            return false;
+        }
+        if (!replies.containsKey(query)) {
+            if (System.nanoTime() - deadline >= 0) {
+                monitor.setRefreshError(query.getProperty(), NECMultisyncConstants.TIME_BUDGET_EXCEEDED);
+                return false;
             }
-        } finally {
-            reentrantLock.unlock();
+            commandQueue.yieldToControls();
         }
+        return !isControlled(monitor, query.getProperty());
     }
 
     /**
-     * This method is recalled by Symphony to control a list of properties
-     * @param controllableProperties This is the list of properties to be controlled
+     * Checks whether a property of a display waits for a control to be confirmed
+     *
+     * @param monitor display of the property
+     * @param property statistics property
+     * @return boolean true if the property, or the power of the display, was controlled and not confirmed yet
      */
-    @Override
-    public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
-        controllableProperties.stream().forEach(p -> {
-            try {
-                controlProperty(p);
-            } catch (Exception e) {
-                logger.error("Unable to execute control properties.", e);
-            }
-        });
+    private static boolean isControlled(NECMultisyncMonitor monitor, statisticsProperties property) {
+        return monitor.getPendingControl(statisticsProperties.Power) != null || monitor.getPendingControl(property) != null;
     }
 
     /**
-     * This method is recalled by Symphony to get the list of statistics to be displayed
-     * @return List<Statistics> This return the list of statistics.
+     * Adds the statistics and controls of one display, from its cached values
+     *
+     * @param monitor display polled
+     * @param statistics statistics of the cycle
+     * @param dynamicStatistics historical statistics of the cycle
+     * @param advancedControllableProperties controls of the cycle
      */
-    @Override
-    public List<Statistics> getMultipleStatistics() throws Exception {
+    private void addMonitorStatistics(NECMultisyncMonitor monitor, Map<String, String> statistics, Map<String, String> dynamicStatistics,
+            List<AdvancedControllableProperty> advancedControllableProperties) {
+        //controllable properties
+        AdvancedControllableProperty.Switch powerSwitch = new AdvancedControllableProperty.Switch();
+        powerSwitch.setLabelOn("On");
+        powerSwitch.setLabelOff("Off");
+        String powerValue = monitor.getCachedValue(statisticsProperties.Power);
+        advancedControllableProperties.add(new AdvancedControllableProperty(monitor.getPropertyName(statisticsProperties.Power.name()), new Date(), powerSwitch, powerValue));
+        statistics.put(monitor.getPropertyName(statisticsProperties.Power.name()), powerValue);
 
-        ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-        reentrantLock.lock();
-        try {
-            if (isValidShutdownStartupCooldown() && localStatistics != null) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Device is occupied. Skipping statistics refresh call.");
-                }
-                extendedStatistics.setStatistics(localStatistics.getStatistics());
-                extendedStatistics.setControllableProperties(localStatistics.getControllableProperties());
-                return Collections.singletonList(extendedStatistics);
+        statistics.put(monitor.getPropertyName(statisticsProperties.Diagnosis.name()), monitor.getCachedValue(statisticsProperties.Diagnosis));
+
+        String value = monitor.getCachedValue(statisticsProperties.Input);
+        if (value == null) {
+            //never retrieved, the display has been in standby since the adapter started
+            value = NECMultisyncConstants.NONE;
+        }
+        if (NECMultisyncConstants.NUMBER_ONE.equalsIgnoreCase(powerValue) && !inputNames.UNKNOWN.name().equalsIgnoreCase(value)) {
+            addAdvancedControlProperties(advancedControllableProperties, statistics, createDropdown(monitor.getPropertyName(statisticsProperties.Input.name()), getInputNamesArray(), value), value);
+        } else {
+            statistics.put(monitor.getPropertyName(statisticsProperties.Input.name()), value);
+        }
+
+        String temperatureParameter = statisticsProperties.Temperature.name() + "(C)";
+        String temperatureValue = monitor.getCachedValue(statisticsProperties.Temperature);
+        //no value if the display has been in standby since the adapter started
+        if (temperatureValue != null) {
+            if (!historicalProperties.isEmpty() && historicalProperties.contains(temperatureParameter)) {
+                dynamicStatistics.put(monitor.getPropertyName(temperatureParameter), temperatureValue);
+            } else {
+                statistics.put(monitor.getPropertyName(temperatureParameter), temperatureValue);
             }
+        }
+    }
 
-            //controls
-            List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-            //statistics
-            Map<String, String> statistics = new HashMap<>();
-            Map<String, String> dynamicStatistics = new HashMap<>();
+    /**
+     * Sends a frame and waits for its reply within the reply timeout of the display (see {@link NECMultisyncRttEstimator})
+     */
+    @Override
+    protected byte[] send(byte[] data) throws Exception {
+        int timeout = rttEstimator.getTimeout(data[2]);
+        return send(data, timeout, getExchangeDeadline(1 + NECMultisyncConstants.MAX_FRAME_RETRIES, timeout));
+    }
 
-            //controllable properties
-            AdvancedControllableProperty.Switch powerSwitch = new AdvancedControllableProperty.Switch();
-            powerSwitch.setLabelOn("On");
-            powerSwitch.setLabelOff("Off");
+    /**
+     * Shared executor wrapper for send() operation, so we'll react if there are connection issues with the request,
+     * cancel the operation and throw Socket timeout exception. The operation runs on the pool shared by every adapter
+     * instance (see {@link NECMultisyncIOExecutor}) instead of a dedicated thread per frame.
+     * The connection is dropped on any I/O error, so a late reply can't be taken for the reply of the next command.
+     *
+     * @param data bytes to send
+     * @param timeout timeout after which operation is canceled
+     * @param unit time unit for the specified timeout
+     * @throws Exception if there was an exception during command execution
+     * */
+    public byte[] sendWithTimeout(byte[] data, long timeout, TimeUnit unit) throws Exception {
+        return send(data, (int) Math.min(unit.toMillis(timeout), Integer.MAX_VALUE), unit.toMillis(timeout));
+    }
 
-            //getting power status from device
-            String power;
+    /**
+     * Sends a frame on the shared executor and waits for its reply
+     *
+     * @param data bytes to send
+     * @param readTimeout maximum time in milliseconds to wait for the reply once the frame is sent
+     * @param deadline time in milliseconds after which the operation is canceled, queue wait and connection included
+     * @return byte[] reply frame
+     * @throws Exception if there was an exception during command execution
+     */
+    private byte[] send(byte[] data, int readTimeout, long deadline) throws Exception {
+        try {
+            return NECMultisyncIOExecutor.execute(() -> exchange(data, readTimeout), this::closeConnection, deadline, TimeUnit.MILLISECONDS);
+        } catch (IOException e) {
+            closeConnection();
+            connectionStatus.setLastError(e);
+            connectionStatus.setConnectionState(ConnectionState.Failed);
+            throw e;
+        }
+    }
 
-            try {
-                power = getPower().name();
-                if (power.contains("ON")) {
-                    advancedControllableProperties.add(new AdvancedControllableProperty(statisticsProperties.Power.name(), new Date(), powerSwitch, NECMultisyncConstants.NUMBER_ONE));
-                    statistics.put(statisticsProperties.Power.name(), NECMultisyncConstants.NUMBER_ONE);
-                } else {
-                    advancedControllableProperties.add(new AdvancedControllableProperty(statisticsProperties.Power.name(), new Date(), powerSwitch, NECMultisyncConstants.ZERO));
-                    statistics.put(statisticsProperties.Power.name(), NECMultisyncConstants.ZERO);
-                }
-            } catch (Exception e) {
-                if (this.logger.isDebugEnabled()) {
-                    this.logger.debug("error during getPower", e);
-                }
-                throw new ResourceNotReachableException(NECMultisyncConstants.MESSAGE_ERROR + e.getMessage());
+    /**
+     * Sends the frames of the given queries back-to-back, up to the given number of frames in flight, and matches
+     * each reply to its query. Replies are matched by reply type, replies that match no pending query (rejected
+     * or broken replies) are assigned to the oldest pending query, as the display answers in order.
+     * Nothing is sent in sequential mode. If the pipelined exchange fails, the queries are left out of the result
+     * and sent one by one by the statistics cycle.
+     *
+     * @param queries queries to send, in order
+     * @param monitor display to query
+     * @param depth maximum number of frames in flight, 1 for sequential mode
+     * @return Map<NECMultisyncQuery, byte[]> reply of each query
+     */
+    private Map<NECMultisyncQuery, byte[]> sendPipelined(NECMultisyncQuery[] queries, NECMultisyncMonitor monitor, int depth) {
+        Map<NECMultisyncQuery, byte[]> replies = new EnumMap<>(NECMultisyncQuery.class);
+        if (depth < 2 || queries.length < 2) {
+            return replies;
+        }
+        byte[][] frames = new byte[queries.length][];
+        for (int i = 0; i < queries.length; i++) {
+            frames[i] = getQueryFrame(queries[i], monitor);
+        }
+        int timeout = rttEstimator.getTimeout(monitor.getMonitorID());
+        byte[][] received;
+        try {
+            received = NECMultisyncIOExecutor.execute(() -> exchange(frames, c -> c.exchangeAll(frames, depth, timeout)),
+                    this::closeConnection, getExchangeDeadline(frames.length, timeout), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            closeConnection();
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Pipelined queries failed for: " + this.host + " port: " + this.getPort() + ", sending them sequentially", e);
             }
-
-            //getting diagnostic result from device
-            try {
-                statistics.put(statisticsProperties.Diagnosis.name(), NECMultisyncDiagnosisEnum.getValueByName(getDiagResult().name()));
-            } catch (Exception e) {
-                if (this.logger.isDebugEnabled()) {
-                    this.logger.debug("error during getDiagResult", e);
-                }
-                throw new ResourceNotReachableException(NECMultisyncConstants.MESSAGE_ERROR + e.getMessage());
+            return replies;
+        }
+        boolean[] matched = new boolean[queries.length];
+        for (byte[] reply : received) {
+            if (NECMultisyncConnection.isCorrupted(reply)) {
+                //the query of a corrupted reply is sent again on its own when the cycle reaches it
+                continue;
             }
-
-            //getting current device input
-            try {
-                String value = getInput().name();
-                if (NECMultisyncConstants.NUMBER_ONE.equalsIgnoreCase(statistics.get(statisticsProperties.Power.name())) && !inputNames.UNKNOWN.name().equalsIgnoreCase(value)) {
-                    addAdvancedControlProperties(advancedControllableProperties, statistics, createDropdown(statisticsProperties.Input.name(), getInputNamesArray(), value), value);
-                } else {
-                    statistics.put(statisticsProperties.Input.name(), value);
-                }
-            } catch (Exception e) {
-                if (this.logger.isDebugEnabled()) {
-                    this.logger.debug("error during getInput", e);
+            responseValues replyType = NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length);
+            int index = -1;
+            for (int i = 0; i < queries.length; i++) {
+                if (!matched[i] && (queries[i].getReplyType() == replyType || index < 0)) {
+                    index = i;
+                    if (queries[i].getReplyType() == replyType) {
+                        break;
+                    }
                 }
-                throw new ResourceNotReachableException(NECMultisyncConstants.MESSAGE_ERROR + e.getMessage());
             }
+            matched[index] = true;
+            replies.put(queries[index], reply);
+        }
+        return replies;
+    }
 
-            //getting device temperature
-            try {
-                String temperatureParameter = statisticsProperties.Temperature.name() + "(C)";
-                temperatureValue = String.valueOf(getTemperature());
-                if (!historicalProperties.isEmpty() && historicalProperties.contains(temperatureParameter)) {
-                    dynamicStatistics.put(temperatureParameter, temperatureValue);
-                } else {
-                    statistics.put(temperatureParameter, temperatureValue);
-                }
-            } catch (Exception e) {
-                if (this.logger.isDebugEnabled()) {
-                    this.logger.debug("error during getTemperature", e);
-                }
-                throw new ResourceNotReachableException(NECMultisyncConstants.MESSAGE_ERROR + e.getMessage());
-            }
+    /**
+     * Retrieves the time to wait for each reply of an exchange with several displays: the longest reply timeout of them
+     *
+     * @param frames frames sent by the exchange
+     * @return int reply timeout in milliseconds
+     */
+    private int getReplyTimeout(byte[][] frames) {
+        int timeout = rttEstimator.getTimeout();
+        for (byte[] frame : frames) {
+            timeout = Math.max(timeout, rttEstimator.getTimeout(frame[2]));
+        }
+        return timeout;
+    }
 
-            extendedStatistics.setControllableProperties(advancedControllableProperties);
-            extendedStatistics.setStatistics(statistics);
-            extendedStatistics.setDynamicStatistics(dynamicStatistics);
+    /**
+     * Retrieves the time allowed for an exchange of frames: the reply timeout and pacing gap of each frame,
+     * plus the connection timeout if the connection has to be opened first
+     *
+     * @param frames number of frames sent by the exchange
+     * @param timeout reply timeout of each frame in milliseconds
+     * @return long deadline in milliseconds
+     */
+    private long getExchangeDeadline(int frames, int timeout) {
+        long deadline = (long) frames * (timeout + TimeUnit.NANOSECONDS.toMillis(pacer.getGap()));
+        NECMultisyncConnection current = connection;
+        return current != null && current.isOpen() ? deadline : deadline + rttEstimator.getMaxTimeout();
+    }
 
-            localStatistics = extendedStatistics;
-            //Displays the generated list of controllable and statistics properties for debugging purposes
+    /**
+     * Sends a frame and reads its reply.
+     *
+     * @param data frame to send
+     * @param readTimeout maximum time in milliseconds to wait for the reply
+     * @return byte[] reply frame
+     * @throws IOException if the frame couldn't be sent or the reply wasn't received
+     */
+    private byte[] exchange(byte[] data, int readTimeout) throws IOException {
+        return exchange(new byte[][] { data }, c -> new byte[][] { c.exchange(data, readTimeout) })[0];
+    }
+
+    /**
+     * Runs an exchange of frames against the connection. A connection that was already open may have been closed
+     * by the display in the meantime, in that case it is reopened and the exchange is run once more.
+     *
+     * @param frames frames sent by the exchange, for logging
+     * @param operation exchange to run, returning the reply of each frame
+     * @return byte[][] reply frames
+     * @throws IOException if the frames couldn't be sent or the replies weren't received
+     */
+    private byte[][] exchange(byte[][] frames, ConnectionOperation operation) throws IOException {
+        if (this.logger.isDebugEnabled()) {
+            for (byte[] data : frames) {
+                this.logger.debug("Sending: " + getHexByteString(data) + " to: " + this.host + " port: " + this.getPort());
+            }
+        }
+        NECMultisyncConnection current = getConnectionInstance();
+        boolean reused = current.isOpen();
+        byte[][] responses;
+        try {
+            responses = operation.execute(openConnection());
+        } catch (SocketTimeoutException e) {
+            throw e;
+        } catch (IOException e) {
+            //an exchange cancelled on timeout fails because its connection was closed, it must not reconnect
+            if (!reused || Thread.currentThread().isInterrupted()) {
+                throw e;
+            }
             if (this.logger.isDebugEnabled()) {
-                for (AdvancedControllableProperty controlProperty : advancedControllableProperties) {
-                    this.logger.debug("controllable key: " + controlProperty.getName() + ",value: " + controlProperty.getValue());
-                }
-                for (String s : statistics.keySet()) {
-                    this.logger.debug("statistics key: " + s + ",value: " + statistics.get(s));
-                }
+                this.logger.debug("Connection to " + this.host + " port: " + this.getPort() + " was lost, reconnecting", e);
             }
-        } finally {
-            reentrantLock.unlock();
+            closeConnection();
+            responses = operation.execute(openConnection());
         }
-        return Collections.singletonList(extendedStatistics);
+        if (this.logger.isDebugEnabled()) {
+            for (byte[] response : responses) {
+                this.logger.debug("Received response: " + getHexByteString(response) + " from: " + this.host + " port: " + this.getPort());
+            }
+        }
+        connectionStatus.setLastTimestamp(System.currentTimeMillis());
+        receivedFrames.addAndGet(responses.length);
+        return responses;
     }
 
-    @Override
-    protected byte[] send(byte[] data) throws Exception {
-       return sendWithTimeout(data, 30000, TimeUnit.SECONDS);
+    /**
+     * Retrieves the connection instance, creating it on first use
+     *
+     * @return NECMultisyncConnection connection to the display
+     */
+    private synchronized NECMultisyncConnection getConnectionInstance() {
+        if (connection == null) {
+            connection = new NECMultisyncConnection(this.host, this.getPort(), pacer, rttEstimator);
+            connection.setMetrics(commandMetrics);
+        }
+        return connection;
     }
 
     /**
-     * Async executor service wrapper for send() operation, so we'll react if there are connection issues with the request,
-     * cancel the future and throw Socket timeout exception. This should prevent potential breaking memory leaks from occurring
-     * on a larger infrastructure scales.
+     * Opens the connection to the display if it is not open yet, and updates the connection status
      *
-     * @param data bytes to send
-     * @param timeout timeout after which operation is canceled
-     * @param unit time unit for the specified timeout
-     * @throws Exception if there was an exception during command execution
-     * */
-    public byte[] sendWithTimeout(byte[] data, long timeout, TimeUnit unit) throws Exception {
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        CompletableFuture<byte[]> future = CompletableFuture.supplyAsync(() -> {
-            try {
-                return super.send(data);
-            } catch (Exception e) {
-                throw new CompletionException(e);
+     * @return NECMultisyncConnection open connection
+     * @throws IOException if the connection can't be established
+     */
+    private NECMultisyncConnection openConnection() throws IOException {
+        NECMultisyncConnection current = getConnectionInstance();
+        if (current.isOpen()) {
+            return current;
+        }
+        if (destroyed) {
+            throw new IOException("The adapter is destroyed, the connection to: " + this.host + " port: " + this.getPort() + " is not reopened");
+        }
+        try {
+            current.open();
+        } catch (IOException e) {
+            if (this.logger.isErrorEnabled()) {
+                this.logger.error("Unable to connect to: " + this.host + " port: " + this.getPort(), e);
             }
-        }, executor);
+            connectionStatus.setLastError(e);
+            connectionStatus.setConnectionState(ConnectionState.Failed);
+            throw e;
+        }
+        connectionStatus.setLastTimestamp(System.currentTimeMillis());
+        connectionStatus.setConnectionState(ConnectionState.Connected);
+        connectionStatus.setLastError(null);
+        return current;
+    }
 
-        try {
-            return future.get(timeout, unit);
-        } catch (TimeoutException e) {
-            future.cancel(true);
-            throw new SocketTimeoutException("Device operation timed out, please check device state and network accessibility.");
-        } catch (ExecutionException e) {
-            throw (Exception) e.getCause();
-        } finally {
-            executor.shutdownNow();
+    /**
+     * Closes the connection to the display if it is open
+     */
+    private void closeConnection() {
+        NECMultisyncConnection current = connection;
+        if (current != null) {
+            current.close();
         }
     }
 
@@ -323,34 +2023,95 @@ public class NECMultisyncDevice extends SocketCommunicator implements Controller
      */
     public void setMonitorID(int monitorID) {
         this.monitorID = monitorID+64;
+        if (StringUtils.isNullOrEmpty(monitorIDs)) {
+            this.monitors = Collections.singletonList(new NECMultisyncMonitor(monitorID, false));
+        }
+    }
+
+    /**
+     * Retrieves {@link #monitorIDs}
+     *
+     * @return value of {@link #monitorIDs}
+     */
+    public String getMonitorIDs() {
+        return monitorIDs;
+    }
+
+    /**
+     * Sets {@link #monitorIDs} value, the monitor numbers of the displays polled through the connection, e.g. "1-25" or
+     * "1,3,5-8" for a daisy chain behind one LAN connected display. All displays are polled in each statistics cycle,
+     * the properties of each display are grouped (Monitor2#Power). When empty, only {@link #monitorID} is polled.
+     *
+     * @param monitorIDs new value of {@link #monitorIDs}
+     */
+    public void setMonitorIDs(String monitorIDs) {
+        Set<Integer> monitorNumbers = new LinkedHashSet<>();
+        if (StringUtils.isNotNullOrEmpty(monitorIDs)) {
+            for (String item : monitorIDs.split(NECMultisyncConstants.COMMA)) {
+                try {
+                    String[] range = item.trim().split(NECMultisyncConstants.DASH);
+                    int first = Integer.parseInt(range[0].trim());
+                    int last = range.length > 1 ? Integer.parseInt(range[1].trim()) : first;
+                    for (int number = Math.max(first, NECMultisyncConstants.MIN_MONITOR_NUMBER); number <= Math.min(last, NECMultisyncConstants.MAX_MONITOR_NUMBER); number++) {
+                        monitorNumbers.add(number);
+                    }
+                } catch (NumberFormatException e) {
+                    if (this.logger.isErrorEnabled()) {
+                        this.logger.error("Invalid monitor ID: " + item + ", expected a number or a range such as 1-25");
+                    }
+                }
+            }
+        }
+        this.monitorIDs = monitorIDs;
+        if (monitorNumbers.isEmpty()) {
+            this.monitors = Collections.singletonList(new NECMultisyncMonitor(this.monitorID - 64, false));
+            return;
+        }
+        List<NECMultisyncMonitor> chainedMonitors = new ArrayList<>();
+        for (int number : monitorNumbers) {
+            chainedMonitors.add(new NECMultisyncMonitor(number, monitorNumbers.size() > 1));
+        }
+        this.monitors = Collections.unmodifiableList(chainedMonitors);
     }
 
     /**
-     * This method is used to get the current display temperature (from sensor 1)
+     * This method is used to get the current display temperature (from the configured sensor)
+     * @param monitor display to query
+     * @param replies replies already received for the cycle
+     * @param selectSensor whether the sensor must be selected before the temperature is read
      * @return int This returns the retrieved temperature.
      */
-    private int getTemperature() throws Exception{
+    private int getTemperature(NECMultisyncMonitor monitor, Map<NECMultisyncQuery, byte[]> replies, boolean selectSensor) throws Exception{
 
-        //setting the sensor to retrieve the temperature from
-        send(NECMultisyncUtils.buildSendString((byte)monitorID,MSG_TYPE_SET,CMD_SET_SENSOR,SENSOR_1));
+        //setting the sensor to retrieve the temperature from, remembered for the current connection
+        if (selectSensor) {
+            byte[] response = query(NECMultisyncQuery.SENSOR_SELECT, monitor, replies);
+            boolean selected = NECMultisyncResponseDecoder.getReplyType(response, 0, response.length) == responseValues.SENSOR_SELECT;
+            monitor.setSelectedSensor(selected ? temperatureSensor : 0, getConnectionInstance().getGeneration());
+        }
 
         //send the get temperature command
-        byte[]  response = send(NECMultisyncUtils.buildSendString((byte)monitorID,MSG_TYPE_GET,CMD_GET_TEMP));
+        byte[]  response = query(NECMultisyncQuery.TEMPERATURE, monitor, replies);
 
         //digest the result and returns the temperature
-        return (Integer) digestResponse(response,responseValues.GET_TEMPERATURE);
+        if (!digestResponse(response, responseValues.GET_TEMPERATURE)) {
+            throw new RuntimeException("Unable to retrieve temperature from the device.");
+        }
+        return NECMultisyncResponseDecoder.getTemperature(response, 0);
     }
 
     /**
      * This method is used to get the current display power status
+     * @param monitor display to query
+     * @param replies replies already received for the cycle
      * @return powerStatus This returns the calculated xor checksum.
      */
-    private powerStatus getPower() throws Exception{
+    private powerStatus getPower(NECMultisyncMonitor monitor, Map<NECMultisyncQuery, byte[]> replies) throws Exception{
         //sending the get power command
-        byte[]  response = send(NECMultisyncUtils.buildSendString((byte)monitorID,MSG_TYPE_CMD,CMD_GET_POWER));
+        byte[]  response = query(NECMultisyncQuery.POWER, monitor, replies);
 
         //digest the result
-        powerStatus power= (powerStatus)digestResponse(response,responseValues.POWER_STATUS_READ);
+        powerStatus power = digestResponse(response, responseValues.POWER_STATUS_READ) ? NECMultisyncResponseDecoder.getPowerStatus(response, 0) : null;
 
         if(power == null)
         {
@@ -361,86 +2122,71 @@ public class NECMultisyncDevice extends SocketCommunicator implements Controller
     }
 
     /**
-     * This method is used to send the power ON/OFF command to the display
+     * This method is used to send the power ON/OFF command to the display, without waiting for the display to switch
+     *
+     * @param command power command parameter
+     * @param monitor display to control
      */
-    private void powerSwitch(byte[] command){
-        byte[] toSend = NECMultisyncUtils.buildSendString((byte)monitorID,MSG_TYPE_CMD,CMD_SET_POWER,command);
+    private void powerSwitch(byte[] command, NECMultisyncMonitor monitor){
+        byte[] toSend = NECMultisyncFrameCache.getFrame((byte)monitor.getMonitorID(),MSG_TYPE_CMD,CMD_SET_POWER,command);
 
         try {
             byte[] response = send(toSend);
-            //digesting the response but voiding the result
+            //digesting the response but voiding the result, the new power status is confirmed in the background
             digestResponse(response, responseValues.POWER_CONTROL);
-            Thread.sleep(5000);
-            response = send(NECMultisyncUtils.buildSendString((byte) monitorID, MSG_TYPE_CMD, CMD_GET_POWER));
-            powerStatus power = (powerStatus) digestResponse(response, responseValues.POWER_STATUS_READ);
-            if (power == null) {
-                throw new IllegalArgumentException("Error during power switch operation");
-            }
-            if (!(Arrays.equals(command, POWER_ON) && power.name().contains("ON") || Arrays.equals(command, POWER_OFF) && power.name().contains("OFF"))) {
-                throw new IllegalArgumentException("Error during power switch operation. The current power status is " + power.name());
-            }
-
             updateShutdownStartupTimestamp();
-            localStatistics.getStatistics().put(statisticsProperties.Power.name(), Arrays.equals(command, POWER_ON) ? NECMultisyncConstants.NUMBER_ONE : NECMultisyncConstants.ZERO);
-            localStatistics.getControllableProperties().stream().filter(acp -> acp.getName().equals(
-                statisticsProperties.Power.name())).findFirst().ifPresent(acp -> {
-                acp.setTimestamp(new Date());
-                acp.setValue(Arrays.equals(command, POWER_ON) ? NECMultisyncConstants.NUMBER_ONE : NECMultisyncConstants.ZERO);
-            });
         } catch (Exception e) {
             throw new IllegalArgumentException(e.getMessage());
         }
     }
 
     /**
-     * Changes the input value of the monitor to the specified value.
+     * Changes the input value of the monitor to the specified value, without waiting for the display to switch.
      *
+     * @param draft The statistics edited by the control.
      * @param value The input value to set for the monitor.
+     * @param monitor The display to control.
+     * @param powerControl The power control of the display the command waits for, it is then sent by the confirmation; null to send it at once.
+     * @return The control to confirm.
      * @throws IllegalArgumentException If the input value is not supported with the model, or if an error occurs during the process.
      */
-    private void changeInputValue(String value) {
+    private NECMultisyncControl changeInputValue(ExtendedStatistics draft, String value, NECMultisyncMonitor monitor, NECMultisyncControl powerControl) {
         try {
             inputNames inputName = getInputNameFromString(value);
-            if (inputName != null) {
-                byte[] response = send(NECMultisyncUtils.buildSendString((byte) monitorID, MSG_TYPE_SET, CMD_SET_INPUT, inputs.get(inputName)));
+            if (inputName == null) {
+                throw new IllegalArgumentException(String.format("Can't control Input with value is %s. Error because invalid input value", value));
+            }
+            byte[] command = NECMultisyncFrameCache.getFrame((byte) monitor.getMonitorID(), MSG_TYPE_SET, CMD_SET_INPUT, inputs.get(inputName));
+            if (powerControl == null) {
+                byte[] response = send(command);
                 String controlValue = getInputValueFromResponse(response);
-                //Sleep 1s to wait the device effect
-                Thread.sleep(1000);
-                response = send(NECMultisyncUtils.buildSendString((byte) monitorID, MSG_TYPE_GET, CMD_GET_INPUT));
-                String currentValue = getInputValueFromResponse(response);
-                if (!currentValue.equalsIgnoreCase(controlValue)) {
+                if (!controlValue.equalsIgnoreCase(inputName.name())) {
                     throw new IllegalArgumentException(String.format("The device does not support %s input command.", value));
-                } else {
-                    localStatistics.getStatistics().put(statisticsProperties.Input.name(), value);
-                    localStatistics.getControllableProperties().stream().filter(acp -> acp.getName().equals(
-                        statisticsProperties.Input.name())).findFirst().ifPresent(acp -> {
-                        acp.setTimestamp(new Date());
-                        acp.setValue(value);
-                    });
                 }
-            } else {
-                throw new IllegalArgumentException(String.format("Can't control Input with value is %s. Error because invalid input value", value));
             }
+            //the new input is confirmed in the background
+            NECMultisyncControl control = new NECMultisyncControl(monitor, NECMultisyncQuery.INPUT, inputName.name(), NECMultisyncConstants.INPUT_CONFIRMATION_TIMEOUT,
+                    powerControl == null ? null : command, powerControl);
+            updateInputProperties(draft, monitor, value);
+            return control;
         } catch (Exception e) {
             throw new IllegalArgumentException(e.getMessage());
         }
     }
 
     /**
-     * Extracts the input value from a response byte array by comparing a portion of the response
-     * with predefined byte arrays associated with input names.
+     * Extracts the input value from an input status read or input control reply.
      *
      * @param response The byte array representing the response from which to extract the input value.
-     * @return The name of the input associated with the matching byte array, or "None" if no match is found.
+     * @return The name of the input reported by the reply, or "None" if the reply holds no known input.
      */
     private String getInputValueFromResponse(byte[] response) {
-        for (Map.Entry<inputNames, byte[]> entry : inputs.entrySet()) {
-            if (Arrays.equals(Arrays.copyOfRange(response, 20, 24), entry.getValue())) {
-                inputNames input = entry.getKey();
-                return input.name();
-            }
+        responseValues replyType = NECMultisyncResponseDecoder.getReplyType(response, 0, response.length);
+        if (replyType != responseValues.INPUT_STATUS_READ && replyType != responseValues.INPUT_CONTROL) {
+            return NECMultisyncConstants.NONE;
         }
-        return NECMultisyncConstants.NONE;
+        inputNames input = NECMultisyncResponseDecoder.getInput(response, 0);
+        return input == null ? NECMultisyncConstants.NONE : input.name();
     }
 
     /**
@@ -459,11 +2205,13 @@ public class NECMultisyncDevice extends SocketCommunicator implements Controller
     /**
      * This method is used to get the diagnostics results from the display
      *
+     * @param monitor display to query
+     * @param replies replies already received for the cycle
      * @return diagResultNames This returns the retrieved diagnostic results.
      */
-    private diagResultNames getDiagResult() throws Exception {
-        byte[] response = send(NECMultisyncUtils.buildSendString((byte) monitorID, MSG_TYPE_CMD, CMD_SELF_DIAG));
-        diagResultNames diagResult = (diagResultNames) digestResponse(response, responseValues.SELF_DIAG);
+    private diagResultNames getDiagResult(NECMultisyncMonitor monitor, Map<NECMultisyncQuery, byte[]> replies) throws Exception {
+        byte[] response = query(NECMultisyncQuery.DIAGNOSIS, monitor, replies);
+        diagResultNames diagResult = digestResponse(response, responseValues.SELF_DIAG) ? NECMultisyncResponseDecoder.getDiagResult(response, 0) : null;
 
         if (diagResult == null) {
             return diagResultNames.UNKNOWN;
@@ -475,11 +2223,13 @@ public class NECMultisyncDevice extends SocketCommunicator implements Controller
     /**
      * This method is used to get the current display input
      *
+     * @param monitor display to query
+     * @param replies replies already received for the cycle
      * @return inputNames This returns the current input.
      */
-    private inputNames getInput() throws Exception {
-        byte[] response = send(NECMultisyncUtils.buildSendString((byte) monitorID, MSG_TYPE_GET, CMD_GET_INPUT));
-        inputNames input = (inputNames) digestResponse(response, responseValues.INPUT_STATUS_READ);
+    private inputNames getInput(NECMultisyncMonitor monitor, Map<NECMultisyncQuery, byte[]> replies) throws Exception {
+        byte[] response = query(NECMultisyncQuery.INPUT, monitor, replies);
+        inputNames input = digestResponse(response, responseValues.INPUT_STATUS_READ) ? NECMultisyncResponseDecoder.getInput(response, 0) : null;
 
         if (input == null) {
             logger.error("Error while retrieve Input status");
@@ -490,84 +2240,65 @@ public class NECMultisyncDevice extends SocketCommunicator implements Controller
     }
 
     /**
-     * This method is used to digest the response received from the device
+     * Retrieves the reply of a monitoring query, sending the query if its reply wasn't received by a pipelined exchange
+     *
+     * @param query query to retrieve the reply for
+     * @param monitor display to query
+     * @param replies replies already received for the cycle
+     * @return byte[] reply of the query
+     */
+    private byte[] query(NECMultisyncQuery query, NECMultisyncMonitor monitor, Map<NECMultisyncQuery, byte[]> replies) throws Exception {
+        byte[] reply = replies.get(query);
+        if (reply != null) {
+            return reply;
+        }
+        //a display of a daisy chain that doesn't reply fails within the reply timeout, it can't hold the sweep for long
+        return send(getQueryFrame(query, monitor));
+    }
+
+    /**
+     * Retrieves the frame of a monitoring query for a display, the sensor selection targets the configured sensor
+     *
+     * @param query monitoring query
+     * @param monitor display to query
+     * @return byte[] frame to send
+     */
+    private byte[] getQueryFrame(NECMultisyncQuery query, NECMultisyncMonitor monitor) {
+        return query == NECMultisyncQuery.SENSOR_SELECT ? query.getFrame(monitor.getMonitorID(), NECMultisyncConstants.SENSORS[temperatureSensor - 1])
+                : query.getFrame(monitor.getMonitorID());
+    }
+
+    /**
+     * This method is used to digest the response received from the device.
+     * Values are then read from the response through {@link NECMultisyncResponseDecoder}, without copying it.
      *
      * @param response This is the response to be digested
      * @param expectedResponse This is the expected response type to be compared with received
-     * @return Object This returns the result digested from the response.
-     */
-    private Object digestResponse(byte[] response, responseValues expectedResponse) {
-        if (response.length <= 4) {
-            throw new ResourceNotReachableException("Error while retrieve data");
-        }
-        byte responseMessageType = response[4];
-
-        Arrays.copyOfRange(response, 1, response.length - 2);
-
-        //checksum verification
-        if (response[response.length - 2] == NECMultisyncUtils.xor(Arrays.copyOfRange(response, 1, response.length - 2))) {
-            if (responseMessageType == MSG_TYPE_CMD_REPLY) {
-                if (Arrays.equals(Arrays.copyOfRange(response, 8, 10), REP_RESERVED_DATA)) {
-                    if (Arrays.equals(Arrays.copyOfRange(response, 10, 12), REP_RESULT_CODE_NO_ERROR)) {
-                        if (Arrays.equals(Arrays.copyOfRange(response, 12, 14), REP_POWER_STATUS_READ_Codes) && expectedResponse == responseValues.POWER_STATUS_READ) {
-                            powerStatus power = powerStatus.values()[Character.getNumericValue((char) response[23]) - 1];
-                            return power;
-                        }
-                    } else if (Arrays.equals(Arrays.copyOfRange(response, 10, 12), REP_RESULT_CODE_NO_UNSUPPORTED)) {
-                        if (this.logger.isErrorEnabled()) {
-                            this.logger.error("error: REP_RESULT_CODE_NO_UNSUPPORTED: " + this.host + " port: " + this.getPort());
-                        }
-                        throw new RuntimeException("REP_RESULT_CODE_NO_UNSUPPORTED");
-                    }
-                } else if (Arrays.equals(Arrays.copyOfRange(response, 8, 10), REP_RESULT_CODE_NO_ERROR)) {
-
-                    if (Arrays.equals(Arrays.copyOfRange(response, 10, 16), REP_POWER_CONTROL_Codes) && expectedResponse == responseValues.POWER_CONTROL) {
-                        powerStatus power = powerStatus.values()[Character.getNumericValue((char) response[19]) - 1];
-                        return power;
-                    }
-                } else if (Arrays.equals(Arrays.copyOfRange(response, 8, 10), REP_RESULT_CODE_NO_UNSUPPORTED)) {
-                    if (this.logger.isErrorEnabled()) {
-                        this.logger.error("error: REP_RESULT_CODE_NO_UNSUPPORTED: " + this.host + " port: " + this.getPort());
-                    }
-                    throw new RuntimeException("REP_RESULT_CODE_NO_UNSUPPORTED");
-                } else if (Arrays.equals(Arrays.copyOfRange(response, 8, 10), REP_SELF_DIAG_Codes) && expectedResponse == responseValues.SELF_DIAG) {
-
-                    for (Map.Entry<diagResultNames, byte[]> entry : DIAG_RESULT_CODES.entrySet()) {
-                        if (Arrays.equals(Arrays.copyOfRange(response, 10, 12), entry.getValue())) {
-                            diagResultNames diagResult = entry.getKey();
-                            return diagResult;
-                        }
-                    }
+     * @return boolean This returns true if the response is of the expected type, false otherwise.
+     */
+    private boolean digestResponse(byte[] response, responseValues expectedResponse) {
+        responseValues replyType = NECMultisyncResponseDecoder.getReplyType(response, 0, response.length);
+        switch (replyType) {
+            case MALFORMED:
+                throw new ResourceNotReachableException("Error while retrieve data");
+            case CHECKSUM_ERROR:
+                if (this.logger.isErrorEnabled()) {
+                    this.logger.error("error: wrong checksum communicating with: " + this.host + " port: " + this.getPort());
                 }
-            } else if (responseMessageType == MSG_TYPE_GET_REPLY) {
-                if (Arrays.equals(Arrays.copyOfRange(response, 8, 10), REP_RESULT_CODE_NO_ERROR)) {
-                    if (Arrays.equals(Arrays.copyOfRange(response, 10, 14), CMD_GET_INPUT)) {
-                        for (Map.Entry<inputNames, byte[]> entry : inputs.entrySet()) {
-                            if (Arrays.equals(Arrays.copyOfRange(response, 20, 24), entry.getValue())) {
-                                inputNames input = entry.getKey();
-                                return input;
-                            }
-                        }
-                        return NECMultisyncConstants.NONE;
-                    } else if (Arrays.equals(Arrays.copyOfRange(response, 10, 14), CMD_GET_TEMP)) {
-                        String value = new String(Arrays.copyOfRange(response, 20, 24));
-
-                        return Integer.parseInt(value, 16) / 2;
-                    }
-                } else {
-                    if (this.logger.isErrorEnabled()) {
-                        this.logger.error("error: REP_RESULT_CODE_NO_ERROR: " + this.host + " port: " + this.getPort());
-                    }
-                    throw new RuntimeException("REP_RESULT_CODE_NO_ERROR");
+                throw new RuntimeException("wrong Checksum received");
+            case UNSUPPORTED:
+                if (this.logger.isErrorEnabled()) {
+                    this.logger.error("error: REP_RESULT_CODE_NO_UNSUPPORTED: " + this.host + " port: " + this.getPort());
                 }
-            }
-        } else {//Wrong checksum
-            if (this.logger.isErrorEnabled()) {
-                this.logger.error("error: wrong checksum communicating with: " + this.host + " port: " + this.getPort());
-            }
-            throw new RuntimeException("wrong Checksum received");
+                throw new RuntimeException("REP_RESULT_CODE_NO_UNSUPPORTED");
+            case RESULT_ERROR:
+                if (this.logger.isErrorEnabled()) {
+                    this.logger.error("error: REP_RESULT_CODE_NO_ERROR: " + this.host + " port: " + this.getPort());
+                }
+                throw new RuntimeException("REP_RESULT_CODE_NO_ERROR");
+            default:
+                return replyType == expectedResponse;
         }
-        return null;
     }
 
     /**
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+/**
+ * Cache of prebuilt NEC frames, keyed by monitor ID, message type, command and parameter.
+ * The frames sent to a given monitor never change, so each one is encoded once and reused on every poll.
+ * Keys are packed into a long and stored in a copy-on-write open addressing table: lookups are lock-free
+ * and allocate nothing, inserts (a few dozen per JVM) copy the table under a lock.
+ * <p>
+ * Returned arrays are shared between callers and must never be modified.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+final class NECMultisyncFrameCache {
+
+    //key used for frames that can't be packed, such frames are not cached
+    private static final long NO_KEY = 0L;
+    private static final long KEY_MARKER = 1L << 63;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final Object writeLock = new Object();
+    private static volatile Table table = new Table(INITIAL_CAPACITY);
+
+    private NECMultisyncFrameCache() {
+    }
+
+    /**
+     * Retrieves the frame for the given parameters, building and caching it on first use
+     *
+     * @param monitorID byte representing the monitor ID (1=41h -> 26=5Ah, ALL = 2Ah)
+     * @param messageType byte representing the type of message to be sent (see NECMultisyncConstants)
+     * @param command byte array representing the command to be sent (see NECMultisyncConstants)
+     * @return byte[] shared frame ready to be sent
+     */
+    static byte[] getFrame(byte monitorID, byte messageType, byte[] command) {
+        return getFrame(monitorID, messageType, command, null);
+    }
+
+    /**
+     * Retrieves the frame for the given parameters, building and caching it on first use
+     *
+     * @param monitorID byte representing the monitor ID (1=41h -> 26=5Ah, ALL = 2Ah)
+     * @param messageType byte representing the type of message to be sent (see NECMultisyncConstants)
+     * @param command byte array representing the command to be sent (see NECMultisyncConstants)
+     * @param param byte array representing the parameter values to be sent, may be null
+     * @return byte[] shared frame ready to be sent
+     */
+    static byte[] getFrame(byte monitorID, byte messageType, byte[] command, byte[] param) {
+        long key = packKey(monitorID, messageType, command, param);
+        if (key == NO_KEY) {
+            return NECMultisyncUtils.buildSendString(monitorID, messageType, command, param);
+        }
+        byte[] frame = table.get(key);
+        if (frame == null) {
+            synchronized (writeLock) {
+                frame = table.get(key);
+                if (frame == null) {
+                    frame = NECMultisyncUtils.buildSendString(monitorID, messageType, command, param);
+                    table = table.with(key, frame);
+                }
+            }
+        }
+        return frame;
+    }
+
+    /**
+     * Retrieves number of cached frames
+     *
+     * @return int number of cached frames
+     */
+    static int size() {
+        return table.size;
+    }
+
+    /**
+     * Packs frame parameters into a single key.
+     * Commands and parameters of the NEC protocol are ASCII encoded hex digits, so each byte holds a nibble:
+     * marker(1) | monitorID(8) | messageType(8) | command length / 2 (2) | command(24) | has param(1) | param(16)
+     *
+     * @return long packed key, or {@link #NO_KEY} if the parameters don't fit in the layout
+     */
+    private static long packKey(byte monitorID, byte messageType, byte[] command, byte[] param) {
+        if (command == null || command.length == 0 || command.length > 6 || (command.length & 1) != 0) {
+            return NO_KEY;
+        }
+        if (param != null && param.length != 4) {
+            return NO_KEY;
+        }
+        long key = KEY_MARKER | (monitorID & 0xFFL) << 55 | (messageType & 0xFFL) << 47 | (long) (command.length >> 1) << 45;
+        long commandBits = 0;
+        for (byte b : command) {
+            int nibble = nibble(b);
+            if (nibble < 0) {
+                return NO_KEY;
+            }
+            commandBits = commandBits << 4 | nibble;
+        }
+        key |= commandBits << 21;
+        if (param != null) {
+            long paramBits = 0;
+            for (byte b : param) {
+                int nibble = nibble(b);
+                if (nibble < 0) {
+                    return NO_KEY;
+                }
+                paramBits = paramBits << 4 | nibble;
+            }
+            key |= 1L << 20 | paramBits << 4;
+        }
+        return key;
+    }
+
+    /**
+     * Converts an upper case ASCII hex digit to its value
+     *
+     * @return int value of the digit, or -1 if the byte is not an upper case hex digit
+     */
+    private static int nibble(byte b) {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        if (b >= 'A' && b <= 'F') {
+            return b - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * Immutable open addressing table with linear probing
+     */
+    private static final class Table {
+        private final long[] keys;
+        private final byte[][] frames;
+        private final int size;
+
+        private Table(int capacity) {
+            this(new long[capacity], new byte[capacity][], 0);
+        }
+
+        private Table(long[] keys, byte[][] frames, int size) {
+            this.keys = keys;
+            this.frames = frames;
+            this.size = size;
+        }
+
+        private byte[] get(long key) {
+            int mask = keys.length - 1;
+            for (int i = index(key, mask); ; i = (i + 1) & mask) {
+                long current = keys[i];
+                if (current == key) {
+                    return frames[i];
+                }
+                if (current == NO_KEY) {
+                    return null;
+                }
+            }
+        }
+
+        private Table with(long key, byte[] frame) {
+            int capacity = (size + 1) * 2 > keys.length ? keys.length * 2 : keys.length;
+            Table copy = new Table(capacity);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != NO_KEY) {
+                    copy.put(keys[i], frames[i]);
+                }
+            }
+            copy.put(key, frame);
+            return new Table(copy.keys, copy.frames, size + 1);
+        }
+
+        private void put(long key, byte[] frame) {
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (keys[i] != NO_KEY) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            frames[i] = frame;
+        }
+
+        private static int index(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash >>> 32) & mask;
+        }
+    }
+}
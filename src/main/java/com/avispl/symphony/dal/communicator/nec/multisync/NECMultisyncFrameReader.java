@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Length-aware reader for frames of the NEC external control protocol.
+ * The two ASCII hex digits of the header announce the size of the message (STX to ETX), so a frame is exactly
+ * header + message + check code + CR bytes long. The reader returns as soon as that many bytes are available,
+ * instead of scanning for a terminator, so a payload or check code byte equal to 0Dh can't end a frame early.
+ * Bytes received beyond the current frame (coalesced TCP segments) are kept for the next call, and missing bytes
+ * (partial segments) are awaited. Anything before a SOH byte, a header with an invalid size, or a frame whose STX, ETX
+ * or CR byte is not where its size puts it, is discarded: the reader resynchronizes on the next SOH byte, so noise from
+ * a serial to IP bridge can't shift the frames that follow. The check code is verified by the caller.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class NECMultisyncFrameReader {
+
+    private static final byte SOH = 0x01;
+    private static final byte STX = 0x02;
+    private static final byte ETX = 0x03;
+    private static final byte CR = 0x0D;
+    private static final int HEADER_LENGTH = 7;
+    private static final int SIZE_OFFSET = 5;
+    private static final int TRAILER_LENGTH = 2;
+    //the message size is one byte, so a frame never exceeds 7 + 255 + 2 bytes
+    private static final int BUFFER_SIZE = 1024;
+
+    private final InputStream inputStream;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int start;
+    private int end;
+    private long discardedBytes;
+    private long resyncs;
+
+    /**
+     * Constructor for NECMultisyncFrameReader
+     *
+     * @param inputStream stream to read the frames from, typically the socket input stream
+     */
+    NECMultisyncFrameReader(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    /**
+     * Reads the next complete frame, blocking until all of its bytes are received
+     *
+     * @return byte[] frame from SOH to CR included
+     * @throws EOFException if the stream was closed before a complete frame was received
+     * @throws IOException if reading failed, including read timeouts
+     */
+    byte[] readFrame() throws IOException {
+        long discardedBefore = discardedBytes;
+        while (true) {
+            while (start < end && buffer[start] != SOH) {
+                start++;
+                discardedBytes++;
+            }
+            if (end - start >= HEADER_LENGTH) {
+                int messageSize = parseSize(buffer[start + SIZE_OFFSET], buffer[start + SIZE_OFFSET + 1]);
+                if (messageSize < 0 || end - start > HEADER_LENGTH && buffer[start + HEADER_LENGTH] != STX) {
+                    //not a real header, or no message after it, resynchronize on the next SOH
+                    start++;
+                    discardedBytes++;
+                    continue;
+                }
+                int frameLength = HEADER_LENGTH + messageSize + TRAILER_LENGTH;
+                if (end - start >= frameLength) {
+                    if (buffer[start + frameLength - TRAILER_LENGTH - 1] != ETX || buffer[start + frameLength - 1] != CR) {
+                        //garbled header or noise within the frame, resynchronize on the next SOH
+                        start++;
+                        discardedBytes++;
+                        continue;
+                    }
+                    byte[] frame = Arrays.copyOfRange(buffer, start, start + frameLength);
+                    start += frameLength;
+                    if (discardedBytes > discardedBefore) {
+                        resyncs++;
+                    }
+                    return frame;
+                }
+            }
+            fill();
+        }
+    }
+
+    /**
+     * Retrieves number of bytes received since the last complete frame
+     *
+     * @return int number of buffered bytes
+     */
+    int getBufferedBytes() {
+        return end - start;
+    }
+
+    /**
+     * Retrieves number of bytes discarded while looking for the start of a frame
+     *
+     * @return long number of discarded bytes
+     */
+    long getDiscardedBytes() {
+        return discardedBytes;
+    }
+
+    /**
+     * Retrieves number of times bytes were discarded before a frame, each resynchronization is counted once
+     *
+     * @return long number of resynchronizations
+     */
+    long getResyncCount() {
+        return resyncs;
+    }
+
+    /**
+     * Drops every buffered byte, e.g. late replies of a cancelled command
+     */
+    void clear() {
+        discardedBytes += end - start;
+        start = 0;
+        end = 0;
+    }
+
+    /**
+     * Reads available bytes from the stream into the buffer, compacting it first if needed
+     */
+    private void fill() throws IOException {
+        if (start == end) {
+            start = 0;
+            end = 0;
+        } else if (end == buffer.length) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            end -= start;
+            start = 0;
+        }
+        int read = inputStream.read(buffer, end, buffer.length - end);
+        if (read < 0) {
+            throw new EOFException("Connection closed by the device while reading a reply.");
+        }
+        end += read;
+    }
+
+    /**
+     * Parses the message size of a header, sent as two ASCII hex digits
+     *
+     * @return int message size, or -1 if the digits or the size are invalid
+     */
+    private static int parseSize(byte high, byte low) {
+        int highValue = Character.digit((char) (high & 0xFF), 16);
+        int lowValue = Character.digit((char) (low & 0xFF), 16);
+        if (highValue < 0 || lowValue < 0) {
+            return -1;
+        }
+        int size = highValue << 4 | lowValue;
+        //a message holds at least STX and ETX
+        return size < 2 ? -1 : size;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations, recorded with microsecond resolution.
+ * Buckets are log-linear: each power of two is split in {@link #SUB_BUCKET_COUNT} buckets, so any recorded value
+ * is reported within 12.5% of its actual value, from one microsecond up to several hours, with a fixed footprint.
+ * Recording never allocates, so it can be done on every frame.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+final class NECMultisyncHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_SHIFT = 40;
+    private static final int BUCKET_COUNT = (MAX_SHIFT + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration
+     *
+     * @param nanos duration in nanoseconds, negative values are recorded as zero
+     */
+    void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts.incrementAndGet(getIndex(micros));
+        count.incrementAndGet();
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Retrieves the number of recorded durations
+     *
+     * @return long number of durations recorded since creation or the last reset
+     */
+    long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Retrieves the longest recorded duration
+     *
+     * @return long longest duration in microseconds, 0 if nothing was recorded
+     */
+    long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Retrieves the duration below which a given share of the recorded durations fall
+     *
+     * @param percentile share of the durations, from 0 to 100
+     * @return long duration in microseconds, upper bound of the bucket the percentile falls in, 0 if nothing was recorded
+     */
+    long getPercentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(getHighestValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Clears the recorded durations. Durations recorded while resetting may be partially kept.
+     */
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        max.set(0);
+    }
+
+    /**
+     * Retrieves the bucket of a value. Values below 2 * {@link #SUB_BUCKET_COUNT} have a bucket each,
+     * larger values share a bucket with the values having the same {@link #SUB_BUCKET_BITS} + 1 leading bits.
+     *
+     * @param value value in microseconds
+     * @return int bucket index
+     */
+    static int getIndex(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Math.min(MAX_SHIFT, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        int subBucket = (int) Math.min(2 * SUB_BUCKET_COUNT - 1, value >>> shift);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket - SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * Retrieves the highest value of a bucket
+     *
+     * @param index bucket index
+     * @return long highest value in microseconds falling in the bucket
+     */
+    static long getHighestValue(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared I/O execution layer for NEC MultiSync adapters.
+ * A single bounded pool is used by every {@link NECMultisyncDevice} instance in the JVM, so sending a frame
+ * no longer creates and destroys a platform thread. Each operation is given a deadline at submission time,
+ * queue wait included, and is cancelled once the deadline has passed: interrupting a thread doesn't unblock a socket
+ * read, so the resource the operation blocks on is closed as well, and the thread is released at the deadline.
+ * Operations wait for a thread in a bounded queue, an operation submitted while the queue is full is rejected at once.
+ * Background statistics refreshes and delayed operations, such as the read-back confirming a control, run on
+ * a separate shared pool, as they wait for the I/O operations they submit: they can't exhaust the I/O pool.
+ * Delayed operations are timed by a single shared timer thread.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+final class NECMultisyncIOExecutor {
+
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+    private static final AtomicLong cancelledOperations = new AtomicLong();
+    private static final AtomicLong rejectedOperations = new AtomicLong();
+    private static final ThreadPoolExecutor executor = createExecutor();
+    private static final ScheduledThreadPoolExecutor timer = createTimer();
+    private static final ThreadPoolExecutor refreshExecutor = createRefreshExecutor();
+
+    private NECMultisyncIOExecutor() {
+    }
+
+    /**
+     * Creates the shared pool. Threads are daemons and core threads are allowed to time out,
+     * so an idle JVM does not keep any of them around. Up to {@link NECMultisyncConstants#IO_QUEUE_CAPACITY}
+     * operations wait for a thread, further ones are rejected.
+     *
+     * @return ThreadPoolExecutor shared executor instance
+     */
+    private static ThreadPoolExecutor createExecutor() {
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "NECMultisync-IO-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(NECMultisyncConstants.IO_THREAD_POOL_SIZE, NECMultisyncConstants.IO_THREAD_POOL_SIZE,
+                NECMultisyncConstants.IO_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(NECMultisyncConstants.IO_QUEUE_CAPACITY),
+                threadFactory);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Creates the shared pool of background statistics refreshes, threads are daemons and time out when idle
+     *
+     * @return ThreadPoolExecutor shared refresh executor instance
+     */
+    private static ThreadPoolExecutor createRefreshExecutor() {
+        AtomicInteger refreshThreadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(NECMultisyncConstants.REFRESH_THREAD_POOL_SIZE, NECMultisyncConstants.REFRESH_THREAD_POOL_SIZE,
+                NECMultisyncConstants.IO_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "NECMultisync-Refresh-" + refreshThreadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Creates the shared timer. Its thread only hands delayed operations over to the refresh pool, it never runs I/O itself.
+     *
+     * @return ScheduledThreadPoolExecutor shared timer instance
+     */
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "NECMultisync-Timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Runs an operation on the shared refresh pool once a delay has passed. Delayed operations, such as the read-back
+     * confirming a control, wait for the I/O operations they submit, so they don't take an I/O thread themselves.
+     * If the refresh pool rejects the operation, the rejection handler is run on the timer thread instead: it must not block.
+     *
+     * @param operation operation to execute
+     * @param rejected handler run if the operation couldn't be submitted
+     * @param delay time to wait before the operation is submitted to the pool
+     * @param unit time unit for the specified delay
+     * @return ScheduledFuture<?> handle cancelling the operation if it has not been submitted yet
+     */
+    static ScheduledFuture<?> schedule(Runnable operation, Runnable rejected, long delay, TimeUnit unit) {
+        return timer.schedule(() -> {
+            try {
+                refreshExecutor.execute(operation);
+            } catch (RejectedExecutionException e) {
+                rejectedOperations.incrementAndGet();
+                rejected.run();
+            }
+        }, delay, unit);
+    }
+
+    /**
+     * Runs a background statistics refresh on the shared refresh pool, without waiting for it
+     *
+     * @param refresh refresh to execute, it handles its own failures
+     */
+    static void refresh(Runnable refresh) {
+        refreshExecutor.execute(refresh);
+    }
+
+    /**
+     * Runs an I/O operation on the shared pool and waits for its result until the deadline is reached.
+     * The operation and the deadline race for a single claim: an operation claimed by the deadline never runs, and an
+     * operation that started first is interrupted and its resource is closed, so a blocking read or connect fails at
+     * once instead of holding the thread until the socket times out.
+     *
+     * @param operation operation to execute
+     * @param resource resource the operation blocks on, closed if the operation is cancelled while running
+     * @param timeout time after which the operation is cancelled, counted from submission
+     * @param unit time unit for the specified timeout
+     * @param <T> type of the operation result
+     * @return T result of the operation
+     * @throws SocketTimeoutException if the deadline has passed before the operation completed
+     * @throws RejectedExecutionException if {@link NECMultisyncConstants#IO_QUEUE_CAPACITY} operations are already waiting
+     * @throws Exception if the operation failed
+     */
+    static <T> T execute(Callable<T> operation, Closeable resource, long timeout, TimeUnit unit) throws Exception {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    throw new CancellationException("Device operation started after its deadline");
+                }
+                return operation.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedOperations.incrementAndGet();
+            throw new RejectedExecutionException("Too many device operations waiting for an I/O thread, please check the state of the displays.", e);
+        }
+        try {
+            return future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            cancel(future, claimed, resource);
+            throw new SocketTimeoutException("Device operation timed out, please check device state and network accessibility.");
+        } catch (InterruptedException e) {
+            cancel(future, claimed, resource);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Cancels an operation that didn't complete in time
+     *
+     * @param future operation to cancel
+     * @param claimed claim of the operation, taken by whichever of the operation and its cancellation comes first
+     * @param resource resource the operation blocks on, closed if the operation started
+     */
+    private static void cancel(Future<?> future, AtomicBoolean claimed, Closeable resource) {
+        boolean started = !claimed.compareAndSet(false, true);
+        future.cancel(true);
+        cancelledOperations.incrementAndGet();
+        if (started && resource != null) {
+            try {
+                resource.close();
+            } catch (IOException e) {
+                //the operation is failed by the interrupt anyway
+            }
+        }
+    }
+
+    /**
+     * Retrieves number of threads of the shared pool that are currently executing an operation
+     *
+     * @return int number of threads in use
+     */
+    static int getActiveThreadCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Retrieves number of threads currently alive in the shared pool, busy or idle
+     *
+     * @return int current pool size
+     */
+    static int getPoolSize() {
+        return executor.getPoolSize();
+    }
+
+    /**
+     * Retrieves number of operations cancelled because their deadline has passed or the caller was interrupted
+     *
+     * @return long number of cancelled operations
+     */
+    static long getCancelledOperationCount() {
+        return cancelledOperations.get();
+    }
+
+    /**
+     * Retrieves number of operations rejected because too many operations were waiting for a thread
+     *
+     * @return long number of rejected operations
+     */
+    static long getRejectedOperationCount() {
+        return rejectedOperations.get();
+    }
+}
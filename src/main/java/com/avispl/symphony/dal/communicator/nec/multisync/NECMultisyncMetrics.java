@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * MBean of one {@link NECMultisyncDevice}, registered in the platform MBean server under
+ * {@code com.avispl.symphony.dal.communicator.nec.multisync:type=NECMultisyncDevice,host="...",port=...,monitorID="..."},
+ * so a JVM running many adapters can be inspected from JConsole or a JMX exporter without waiting for a poll.
+ * Cycle durations and failures are recorded by the device; the other attributes are read live from the device.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+final class NECMultisyncMetrics implements NECMultisyncMetricsMXBean {
+
+    private static final String DOMAIN = "com.avispl.symphony.dal.communicator.nec.multisync";
+
+    private final NECMultisyncDevice device;
+    private final NECMultisyncHistogram cycleTimes = new NECMultisyncHistogram();
+    private final AtomicLong failedCycles = new AtomicLong();
+    private final AtomicReference<String> lastError = new AtomicReference<>();
+    private volatile long sentFramesBaseline;
+    private volatile long receivedFramesBaseline;
+    private ObjectName objectName;
+
+    /**
+     * Constructor for NECMultisyncMetrics
+     *
+     * @param device adapter instance the metrics are read from
+     */
+    NECMultisyncMetrics(NECMultisyncDevice device) {
+        this.device = device;
+        this.sentFramesBaseline = device.getSentFrameCount();
+        this.receivedFramesBaseline = device.getReceivedFrameCount();
+    }
+
+    /**
+     * Registers the MBean in the platform MBean server
+     *
+     * @throws JMException if the name is invalid or already registered, by another adapter polling the same displays
+     * through the same port
+     */
+    synchronized void register() throws JMException {
+        if (objectName != null) {
+            return;
+        }
+        ObjectName name = new ObjectName(DOMAIN + ":type=NECMultisyncDevice,host=" + ObjectName.quote(String.valueOf(getHost()))
+                + ",port=" + getPort() + ",monitorID=" + ObjectName.quote(getMonitorIDs()));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        objectName = name;
+    }
+
+    /**
+     * Removes the MBean from the platform MBean server, if it was registered
+     */
+    synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (JMException e) {
+            //already removed from the server, nothing left to release
+        }
+        objectName = null;
+    }
+
+    /**
+     * Retrieves {@link #objectName}
+     *
+     * @return value of {@link #objectName}, null while the MBean is not registered
+     */
+    synchronized ObjectName getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * Records a statistics cycle
+     *
+     * @param nanos duration of the cycle in nanoseconds
+     * @param error error the cycle failed with, null if it succeeded
+     */
+    void onCycle(long nanos, Exception error) {
+        cycleTimes.record(nanos);
+        if (error != null) {
+            failedCycles.incrementAndGet();
+            lastError.set(error.getClass().getSimpleName() + ": " + error.getMessage());
+        }
+    }
+
+    @Override
+    public String getHost() {
+        return device.getHost();
+    }
+
+    @Override
+    public int getPort() {
+        return device.getPort();
+    }
+
+    @Override
+    public String getMonitorIDs() {
+        String monitorIDs = device.getMonitorIDs();
+        return monitorIDs == null || monitorIDs.isEmpty() ? String.valueOf(device.getMonitorID() - 64) : monitorIDs;
+    }
+
+    @Override
+    public long getCycleCount() {
+        return cycleTimes.getCount();
+    }
+
+    @Override
+    public long getFailedCycleCount() {
+        return failedCycles.get();
+    }
+
+    @Override
+    public long getCycleTimeP50() {
+        return cycleTimes.getPercentile(50);
+    }
+
+    @Override
+    public long getCycleTimeP90() {
+        return cycleTimes.getPercentile(90);
+    }
+
+    @Override
+    public long getCycleTimeP99() {
+        return cycleTimes.getPercentile(99);
+    }
+
+    @Override
+    public long getCycleTimeMax() {
+        return cycleTimes.getMax();
+    }
+
+    @Override
+    public String getLastError() {
+        return lastError.get();
+    }
+
+    @Override
+    public String getCircuitState() {
+        return device.getCircuitBreaker().getState().name();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return device.getCommandQueue().getDepth();
+    }
+
+    @Override
+    public long getFramesSent() {
+        return device.getSentFrameCount() - sentFramesBaseline;
+    }
+
+    @Override
+    public long getFramesReceived() {
+        return device.getReceivedFrameCount() - receivedFramesBaseline;
+    }
+
+    @Override
+    public long getRoundTripTime() {
+        return Math.round(device.getRttEstimator().getSmoothedRtt());
+    }
+
+    @Override
+    public int getReplyTimeout() {
+        return device.getRttEstimator().getTimeout();
+    }
+
+    @Override
+    public void resetCounters() {
+        cycleTimes.reset();
+        failedCycles.set(0);
+        lastError.set(null);
+        sentFramesBaseline = device.getSentFrameCount();
+        receivedFramesBaseline = device.getReceivedFrameCount();
+        NECMultisyncCommandMetrics commandMetrics = device.getCommandMetrics();
+        if (commandMetrics != null) {
+            commandMetrics.reset();
+        }
+    }
+
+    @Override
+    public void forceRefresh() {
+        device.forceRefresh();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+/**
+ * JMX view of the protocol and scheduling metrics of one {@link NECMultisyncDevice}, registered while the adapter is
+ * initialized when {@link NECMultisyncDevice#setJmxMetrics(boolean)} is enabled. Durations are in microseconds,
+ * counters are counted since the adapter was initialized or the last {@link #resetCounters()}.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public interface NECMultisyncMetricsMXBean {
+
+    /**
+     * @return String host name or IP address of the display
+     */
+    String getHost();
+
+    /**
+     * @return int TCP port of the display, or of the serial to Ethernet gateway of the chain
+     */
+    int getPort();
+
+    /**
+     * @return String monitor IDs polled through the connection, e.g. "1" or "1-25"
+     */
+    String getMonitorIDs();
+
+    /**
+     * @return long number of statistics cycles run, failed ones included
+     */
+    long getCycleCount();
+
+    /**
+     * @return long number of statistics cycles that failed
+     */
+    long getFailedCycleCount();
+
+    /**
+     * @return long median duration of the statistics cycles
+     */
+    long getCycleTimeP50();
+
+    /**
+     * @return long 90th percentile of the duration of the statistics cycles
+     */
+    long getCycleTimeP90();
+
+    /**
+     * @return long 99th percentile of the duration of the statistics cycles
+     */
+    long getCycleTimeP99();
+
+    /**
+     * @return long longest statistics cycle
+     */
+    long getCycleTimeMax();
+
+    /**
+     * @return String error of the last failed statistics cycle, null if none failed
+     */
+    String getLastError();
+
+    /**
+     * @return String state of the circuit breaker: CLOSED, OPEN or HALF_OPEN
+     */
+    String getCircuitState();
+
+    /**
+     * @return int number of commands waiting for the connection
+     */
+    int getQueueDepth();
+
+    /**
+     * @return long number of frames sent, retries included
+     */
+    long getFramesSent();
+
+    /**
+     * @return long number of reply frames received
+     */
+    long getFramesReceived();
+
+    /**
+     * @return long smoothed round trip time to the display in milliseconds, -1 until a reply is received
+     */
+    long getRoundTripTime();
+
+    /**
+     * @return int current reply timeout in milliseconds
+     */
+    int getReplyTimeout();
+
+    /**
+     * Clears the counters and cycle durations, and the per-command metrics if they are enabled
+     */
+    void resetCounters();
+
+    /**
+     * Runs a statistics cycle in the background now, the published statistics are updated once it completes
+     */
+    void forceRefresh();
+}
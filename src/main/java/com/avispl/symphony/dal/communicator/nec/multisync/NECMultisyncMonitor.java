@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.statisticsProperties;
+
+/**
+ * State of one display polled by {@link NECMultisyncDevice}: the LAN connected display, or one display of a daisy chain
+ * reached through it. Properties of chained displays are grouped by display, e.g. Monitor2#Power.
+ * The last value of each statistics property is cached with the time it was retrieved, so properties that are not due
+ * for a refresh are reported from the cache without querying the display. A property that could not be refreshed keeps
+ * its cached value along with the reason of the failure, until it is retrieved again.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+class NECMultisyncMonitor {
+
+    private final int monitorID;
+    private final String propertyPrefix;
+    private boolean reachable = true;
+    private int selectedSensor;
+    private int sensorSelectionGeneration;
+    private String controlError;
+    private final String[] pendingControlValues = new String[statisticsProperties.values().length];
+    private final String[] cachedValues = new String[statisticsProperties.values().length];
+    private final long[] refreshTimestamps = new long[statisticsProperties.values().length];
+    private final String[] refreshErrors = new String[statisticsProperties.values().length];
+
+    /**
+     * Constructor for NECMultisyncMonitor
+     *
+     * @param monitorNumber monitor number set on the display, 1 to 100
+     * @param grouped whether the properties of the display are grouped, when more than one display is polled
+     */
+    NECMultisyncMonitor(int monitorNumber, boolean grouped) {
+        this.monitorID = monitorNumber + 64;
+        this.propertyPrefix = grouped ? "Monitor" + monitorNumber + NECMultisyncConstants.HASH : NECMultisyncConstants.EMPTY;
+    }
+
+    /**
+     * Retrieves {@link #monitorID}
+     *
+     * @return value of {@link #monitorID}, monitor number + 64 as sent in frame headers
+     */
+    int getMonitorID() {
+        return monitorID;
+    }
+
+    /**
+     * Retrieves the name of a property of this display
+     *
+     * @param name name of the property
+     * @return String property name, prefixed by the display group if properties are grouped
+     */
+    String getPropertyName(String name) {
+        return propertyPrefix.isEmpty() ? name : propertyPrefix + name;
+    }
+
+    /**
+     * Checks whether a property belongs to this display
+     *
+     * @param propertyName full name of the property
+     * @return boolean true if the property belongs to this display
+     */
+    boolean isOwnProperty(String propertyName) {
+        return propertyName.startsWith(propertyPrefix);
+    }
+
+    /**
+     * Retrieves the name of a property of this display, without the display group
+     *
+     * @param propertyName full name of the property
+     * @return String property name without prefix
+     */
+    String getBaseName(String propertyName) {
+        return propertyName.substring(propertyPrefix.length());
+    }
+
+    /**
+     * Retrieves {@link #reachable}
+     *
+     * @return value of {@link #reachable}, whether the display replied during the last cycle
+     */
+    boolean isReachable() {
+        return reachable;
+    }
+
+    /**
+     * Sets {@link #reachable} value
+     *
+     * @param reachable new value of {@link #reachable}
+     */
+    void setReachable(boolean reachable) {
+        this.reachable = reachable;
+    }
+
+    /**
+     * Checks whether a temperature sensor is known to be selected on the display
+     *
+     * @param sensor sensor number
+     * @param connectionGeneration generation of the current connection
+     * @return boolean true if the sensor was selected through the current connection and no power transition happened since
+     */
+    boolean isSensorSelected(int sensor, int connectionGeneration) {
+        return selectedSensor == sensor && sensorSelectionGeneration == connectionGeneration;
+    }
+
+    /**
+     * Records the temperature sensor selected on the display
+     *
+     * @param sensor sensor number, 0 when the selection is unknown
+     * @param connectionGeneration generation of the connection the selection was sent through
+     */
+    void setSelectedSensor(int sensor, int connectionGeneration) {
+        this.selectedSensor = sensor;
+        this.sensorSelectionGeneration = connectionGeneration;
+    }
+
+    /**
+     * Retrieves the value set by a control that is not confirmed by the display yet
+     *
+     * @param property controlled property
+     * @return String value set by the control, null if no control of the property is pending
+     */
+    String getPendingControl(statisticsProperties property) {
+        return pendingControlValues[property.ordinal()];
+    }
+
+    /**
+     * Sets the value set by a control that is not confirmed by the display yet
+     *
+     * @param property controlled property
+     * @param value value set by the control, null once the control is confirmed or failed
+     */
+    void setPendingControl(statisticsProperties property, String value) {
+        pendingControlValues[property.ordinal()] = value;
+    }
+
+    /**
+     * Sets {@link #controlError} value
+     *
+     * @param controlError new value of {@link #controlError}, reason why the last control was not confirmed
+     */
+    void setControlError(String controlError) {
+        this.controlError = controlError;
+    }
+
+    /**
+     * Retrieves {@link #controlError} and clears it, so a failure is reported once
+     *
+     * @return value of {@link #controlError}, null if no control failed since the last call
+     */
+    String takeControlError() {
+        String error = controlError;
+        controlError = null;
+        return error;
+    }
+
+    /**
+     * Checks whether a property must be retrieved from the display
+     *
+     * @param property statistics property
+     * @param refreshInterval minimum time in milliseconds between two retrievals of the property
+     * @param now current time in milliseconds
+     * @return boolean true if the property has no cached value or if its cached value is older than the interval
+     */
+    boolean isRefreshDue(statisticsProperties property, long refreshInterval, long now) {
+        int index = property.ordinal();
+        return cachedValues[index] == null || now - refreshTimestamps[index] >= refreshInterval;
+    }
+
+    /**
+     * Retrieves the cached value of a property
+     *
+     * @param property statistics property
+     * @return String last value retrieved, null if the property was never retrieved
+     */
+    String getCachedValue(statisticsProperties property) {
+        return cachedValues[property.ordinal()];
+    }
+
+    /**
+     * Caches the value of a property
+     *
+     * @param property statistics property
+     * @param value value retrieved from the display or set by a control
+     * @param now time in milliseconds the value was retrieved at
+     */
+    void cacheValue(statisticsProperties property, String value, long now) {
+        cachedValues[property.ordinal()] = value;
+        refreshTimestamps[property.ordinal()] = now;
+        refreshErrors[property.ordinal()] = null;
+    }
+
+    /**
+     * Retrieves the time the cached value of a property was retrieved at
+     *
+     * @param property statistics property
+     * @return long time in milliseconds, 0 if the property was never retrieved, negative if it was invalidated
+     */
+    long getRefreshTimestamp(statisticsProperties property) {
+        return refreshTimestamps[property.ordinal()];
+    }
+
+    /**
+     * Retrieves the reason why a property could not be refreshed
+     *
+     * @param property statistics property
+     * @return String reason of the last failed refresh, null if the property was retrieved since
+     */
+    String getRefreshError(statisticsProperties property) {
+        return refreshErrors[property.ordinal()];
+    }
+
+    /**
+     * Records that a property due for a refresh could not be refreshed, its cached value is kept
+     *
+     * @param property statistics property
+     * @param error reason of the failure
+     */
+    void setRefreshError(statisticsProperties property, String error) {
+        refreshErrors[property.ordinal()] = error;
+    }
+
+    /**
+     * Makes a property due for a refresh on the next cycle, its cached value is still reported until then
+     *
+     * @param property statistics property
+     */
+    void invalidate(statisticsProperties property) {
+        refreshTimestamps[property.ordinal()] = Long.MIN_VALUE / 2;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.responseValues;
+
+import java.io.InterruptedIOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces the frames sent to a display. MultiSync displays NAK, drop or garble commands received too soon after their
+ * previous reply, so each frame is sent at least {@link #getGap()} after the last frame exchanged with the display.
+ * <p>
+ * The gap starts at the configured minimum and adapts to the display model: over each window of
+ * {@link #WINDOW_SIZE} frames, the share of unsupported, corrupted or missing replies is computed. Above
+ * {@link #FAILURE_RATE_THRESHOLD} the gap is doubled; after clean windows it is shortened again, but not below
+ * the shortest gap the display was seen failing at, so the adapter settles on the fastest rate the display accepts.
+ * That floor is lowered again after {@link #CLEAN_WINDOWS_BEFORE_FLOOR_DECAY} clean windows at it, so a burst of
+ * congestion doesn't slow the display down for good.
+ * <p>
+ * Displays also refuse opcodes their model doesn't support, which is not a pacing issue. An opcode refused while
+ * another frame was accepted after no longer a rest, or refused after the display has been idle for {@link #MAX_GAP},
+ * is classified as unsupported on this model: its failures are not accounted for until it is accepted again.
+ * Failures of opcodes the display accepted before are accounted for, unless the display was rested. Likewise only
+ * the first missing reply to a frame the display answered before is accounted for, so a display off the chain
+ * doesn't slow the others down.
+ * <p>
+ * Used by a single connection, calls are serialized by the connection.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+final class NECMultisyncPacer {
+
+    static final long MAX_GAP = TimeUnit.MILLISECONDS.toNanos(1000);
+    private static final long STEP = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int WINDOW_SIZE = 16;
+    private static final double FAILURE_RATE_THRESHOLD = 0.1;
+    private static final int CLEAN_WINDOWS_BEFORE_DECREASE = 4;
+    private static final int CLEAN_WINDOWS_BEFORE_FLOOR_DECAY = 32;
+    private static final byte ETX = 0x03;
+    private static final int MESSAGE_OFFSET = 8;
+    private static final int OPCODE_LENGTH = 4;
+
+    private final Set<Long> supportedOpcodes = new HashSet<>();
+    private final Set<Long> unsupportedOpcodes = new HashSet<>();
+    private final Set<byte[]> answeredFrames = Collections.newSetFromMap(new IdentityHashMap<>());
+    private volatile long minimumGap;
+    private volatile long gap;
+    private volatile long failures;
+    private long floor;
+    private long lastActivity = System.nanoTime() - MAX_GAP;
+    private long lastIdle = MAX_GAP;
+    private int windowFrames;
+    private int windowFailures;
+    private int cleanWindows;
+    private int cleanWindowsAtFloor;
+    private long shortestAccepted = Long.MAX_VALUE;
+    private long windowShortestAccepted = Long.MAX_VALUE;
+
+    /**
+     * Sets the minimum gap between two frames, the adapted gap is reset to it
+     *
+     * @param minimumGap minimum gap in milliseconds
+     */
+    void setMinimumGap(int minimumGap) {
+        this.minimumGap = Math.min(MAX_GAP, TimeUnit.MILLISECONDS.toNanos(Math.max(0, minimumGap)));
+        this.gap = this.minimumGap;
+        this.floor = this.minimumGap;
+        this.cleanWindowsAtFloor = 0;
+    }
+
+    /**
+     * Retrieves the current gap between two frames
+     *
+     * @return long gap in nanoseconds
+     */
+    long getGap() {
+        return gap;
+    }
+
+    /**
+     * Retrieves the number of failures accounted for pacing, since the pacer was created
+     *
+     * @return long number of unsupported, corrupted or missing replies that were not refused for another reason
+     */
+    long getFailureCount() {
+        return failures;
+    }
+
+    /**
+     * Waits until the next frame may be sent
+     *
+     * @throws InterruptedIOException if the thread was interrupted while waiting, the frame must not be sent
+     */
+    void awaitTurn() throws InterruptedIOException {
+        long idle = System.nanoTime() - lastActivity;
+        long wait = gap - idle;
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while pacing frames");
+            }
+        }
+        lastIdle = Math.max(idle, gap);
+    }
+
+    /**
+     * Records that a frame was sent
+     */
+    void onSent() {
+        lastActivity = System.nanoTime();
+    }
+
+    /**
+     * Records the reply to a frame
+     *
+     * @param frame frame sent
+     * @param reply reply received
+     */
+    void onReply(byte[] frame, byte[] reply) {
+        lastActivity = System.nanoTime();
+        responseValues replyType = NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length);
+        boolean failed = replyType == responseValues.UNSUPPORTED || replyType == responseValues.RESULT_ERROR
+                || replyType == responseValues.CHECKSUM_ERROR || replyType == responseValues.MALFORMED;
+        record(frame, failed);
+    }
+
+    /**
+     * Records a frame without reply
+     *
+     * @param frame frame sent
+     */
+    void onTimeout(byte[] frame) {
+        lastActivity = System.nanoTime();
+        if (answeredFrames.remove(frame)) {
+            record(frame, true);
+        }
+    }
+
+    /**
+     * Checks whether the opcode of a frame is classified as unsupported on this display model
+     *
+     * @param frame frame sent
+     * @return boolean true if the display refuses the opcode whatever the pacing, until it accepts it
+     */
+    boolean isUnsupported(byte[] frame) {
+        return unsupportedOpcodes.contains(getOpcode(frame));
+    }
+
+    /**
+     * Accounts for the outcome of a frame and adapts the gap at the end of each window
+     *
+     * @param frame frame sent
+     * @param failed whether the display refused the frame or didn't reply
+     */
+    private void record(byte[] frame, boolean failed) {
+        if (!failed) {
+            answeredFrames.add(frame);
+            windowShortestAccepted = Math.min(windowShortestAccepted, lastIdle);
+            long opcode = getOpcode(frame);
+            if (supportedOpcodes.add(opcode)) {
+                unsupportedOpcodes.remove(opcode);
+            }
+        } else if (!isRefusedForPacing(getOpcode(frame))) {
+            return;
+        }
+        windowFrames++;
+        if (failed) {
+            windowFailures++;
+            failures++;
+        }
+        if (windowFrames < WINDOW_SIZE) {
+            return;
+        }
+        if ((double) windowFailures / windowFrames > FAILURE_RATE_THRESHOLD) {
+            floor = Math.min(MAX_GAP, Math.max(floor, gap + STEP));
+            gap = Math.min(MAX_GAP, Math.max(gap * 2, floor));
+            cleanWindows = 0;
+            cleanWindowsAtFloor = 0;
+        } else if (windowFailures == 0) {
+            if (gap <= floor && floor > minimumGap && ++cleanWindowsAtFloor >= CLEAN_WINDOWS_BEFORE_FLOOR_DECAY) {
+                //the display may have recovered from the congestion that raised the floor, faster rates are tried again
+                floor = Math.max(minimumGap, floor - Math.max(STEP, floor / 10));
+                cleanWindowsAtFloor = 0;
+            }
+            if (++cleanWindows >= CLEAN_WINDOWS_BEFORE_DECREASE) {
+                gap = Math.max(floor, gap - Math.max(STEP, gap / 10));
+                cleanWindows = 0;
+            }
+        }
+        shortestAccepted = windowShortestAccepted;
+        windowShortestAccepted = Long.MAX_VALUE;
+        windowFrames = 0;
+        windowFailures = 0;
+    }
+
+    /**
+     * Classifies a refused opcode
+     *
+     * @param opcode opcode of the refused frame, see {@link #getOpcode(byte[])}
+     * @return boolean true if the refusal is accounted for pacing, false if the opcode is unsupported on this model
+     */
+    private boolean isRefusedForPacing(long opcode) {
+        boolean supported = supportedOpcodes.contains(opcode);
+        if (lastIdle >= MAX_GAP) {
+            //refused by a rested display, pacing is not the cause (unsupported opcode, display state)
+            if (!supported) {
+                unsupportedOpcodes.add(opcode);
+            }
+            return false;
+        }
+        if (supported) {
+            return true;
+        }
+        if (unsupportedOpcodes.contains(opcode)) {
+            return false;
+        }
+        //refused while a frame sent after no longer a rest was accepted: pacing is not the cause
+        long accepted = Math.min(shortestAccepted, windowShortestAccepted);
+        if (accepted != Long.MAX_VALUE && lastIdle + STEP >= accepted) {
+            unsupportedOpcodes.add(opcode);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the opcode of a frame: its message type and the first characters of its message, such as the
+     * operation code page and operation code of a get or set parameter message
+     *
+     * @param frame frame sent
+     * @return long opcode packed in a long
+     */
+    private static long getOpcode(byte[] frame) {
+        long opcode = frame[4];
+        int end = Math.min(frame.length, MESSAGE_OFFSET + OPCODE_LENGTH);
+        for (int i = MESSAGE_OFFSET; i < end && frame[i] != ETX; i++) {
+            opcode = opcode << 8 | frame[i] & 0xFF;
+        }
+        return opcode;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_GET_INPUT;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_GET_POWER;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_GET_TEMP;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_SELF_DIAG;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_SET_SENSOR;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.MSG_TYPE_CMD;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.MSG_TYPE_GET;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.MSG_TYPE_SET;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.SENSOR_1;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.responseValues;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.statisticsProperties;
+
+/**
+ * Monitoring queries sent by {@link NECMultisyncDevice} during a statistics cycle, in the order they are sent.
+ * Each query knows its frame and the reply type it expects, so replies of a pipelined cycle can be
+ * matched to their query, and the statistics property it refreshes, so it is only sent when that property is due.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+enum NECMultisyncQuery {
+    POWER(MSG_TYPE_CMD, CMD_GET_POWER, null, responseValues.POWER_STATUS_READ, statisticsProperties.Power),
+    DIAGNOSIS(MSG_TYPE_CMD, CMD_SELF_DIAG, null, responseValues.SELF_DIAG, statisticsProperties.Diagnosis),
+    INPUT(MSG_TYPE_GET, CMD_GET_INPUT, null, responseValues.INPUT_STATUS_READ, statisticsProperties.Input),
+    SENSOR_SELECT(MSG_TYPE_SET, CMD_SET_SENSOR, SENSOR_1, responseValues.SENSOR_SELECT, statisticsProperties.Temperature),
+    TEMPERATURE(MSG_TYPE_GET, CMD_GET_TEMP, null, responseValues.GET_TEMPERATURE, statisticsProperties.Temperature);
+
+    private final byte messageType;
+    private final byte[] command;
+    private final byte[] parameters;
+    private final responseValues replyType;
+    private final statisticsProperties property;
+
+    /**
+     * Constructor for NECMultisyncQuery
+     *
+     * @param messageType message type of the query frame
+     * @param command command (or opcode) of the query frame
+     * @param parameters command parameters, null if the query has none
+     * @param replyType reply type expected for the query
+     * @param property statistics property refreshed by the query
+     */
+    NECMultisyncQuery(byte messageType, byte[] command, byte[] parameters, responseValues replyType, statisticsProperties property) {
+        this.messageType = messageType;
+        this.command = command;
+        this.parameters = parameters;
+        this.replyType = replyType;
+        this.property = property;
+    }
+
+    /**
+     * Retrieves the cached frame of the query for a monitor
+     *
+     * @param monitorID monitor ID byte (monitor number + 64)
+     * @return byte[] frame to send, must not be modified
+     */
+    byte[] getFrame(int monitorID) {
+        return parameters == null ? NECMultisyncFrameCache.getFrame((byte) monitorID, messageType, command)
+                : NECMultisyncFrameCache.getFrame((byte) monitorID, messageType, command, parameters);
+    }
+
+    /**
+     * Retrieves the cached frame of the query for a monitor, with other parameters than the default ones
+     *
+     * @param monitorID monitor ID byte (monitor number + 64)
+     * @param parameters command parameters
+     * @return byte[] frame to send, must not be modified
+     */
+    byte[] getFrame(int monitorID, byte[] parameters) {
+        return NECMultisyncFrameCache.getFrame((byte) monitorID, messageType, command, parameters);
+    }
+
+    /**
+     * Retrieves {@link #replyType}
+     *
+     * @return value of {@link #replyType}
+     */
+    responseValues getReplyType() {
+        return replyType;
+    }
+
+    /**
+     * Retrieves {@link #property}
+     *
+     * @return value of {@link #property}
+     */
+    statisticsProperties getProperty() {
+        return property;
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_GET_INPUT;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_GET_TEMP;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_SET_INPUT;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_SET_POWER;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.CMD_SET_SENSOR;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.DIAG_RESULT_CODES;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.MSG_TYPE_CMD_REPLY;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.MSG_TYPE_GET_REPLY;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.MSG_TYPE_SET_REPLY;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.REP_POWER_STATUS_READ_Codes;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.REP_RESERVED_DATA;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.REP_RESULT_CODE_NO_ERROR;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.REP_RESULT_CODE_NO_UNSUPPORTED;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.REP_SELF_DIAG_Codes;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.diagResultNames;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.inputNames;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.inputs;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.powerStatus;
+import static com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.responseValues;
+
+import java.util.Map;
+
+/**
+ * Zero-copy decoder for replies of the NEC external control protocol.
+ * Fields are read by offset from the buffer the reply was received in. Reply types are resolved by comparing
+ * packed ints of the message type and opcode, and parameter values are resolved through lookup tables indexed
+ * by the numeric value of their hex digits, so decoding a reply allocates nothing.
+ *
+ * Reply layout (offsets relative to SOH):
+ * <pre>
+ * 0 SOH | 1 reserved | 2 destination | 3 source | 4 message type | 5-6 message length | 7 STX
+ * command reply: 8-9 result or reserved data | 10.. result / opcode / values
+ * get/set reply: 8-9 result | 10-13 opcode | 14-15 type | 16-19 max value | 20-23 current value
+ * then ETX | check code | CR
+ * </pre>
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+final class NECMultisyncResponseDecoder {
+
+    private static final int MESSAGE_TYPE_OFFSET = 4;
+    private static final int RESULT_OFFSET = 8;
+    private static final int OPCODE_OFFSET = 10;
+    private static final int VALUE_OFFSET = 20;
+    private static final int MIN_LENGTH = 5;
+
+    //packed reply fields, precomputed from NECMultisyncConstants
+    private static final int RESERVED_DATA = pack2(REP_RESERVED_DATA, 0);
+    private static final int NO_ERROR = pack2(REP_RESULT_CODE_NO_ERROR, 0);
+    private static final int UNSUPPORTED = pack2(REP_RESULT_CODE_NO_UNSUPPORTED, 0);
+    private static final int SELF_DIAG = pack2(REP_SELF_DIAG_Codes, 0);
+    private static final int POWER_STATUS_READ = pack2(REP_POWER_STATUS_READ_Codes, 0);
+    private static final int POWER_CONTROL_HIGH = pack2(CMD_SET_POWER, 0);
+    private static final int POWER_CONTROL_LOW = pack4(CMD_SET_POWER, 2);
+    private static final int GET_INPUT = pack4(CMD_GET_INPUT, 0);
+    private static final int GET_TEMP = pack4(CMD_GET_TEMP, 0);
+    private static final int SET_INPUT = pack4(CMD_SET_INPUT, 0);
+    private static final int SET_SENSOR = pack4(CMD_SET_SENSOR, 0);
+
+    //lookup tables
+    private static final int[] HEX_VALUES = createHexValues();
+    private static final powerStatus[] POWER_STATUSES = powerStatus.values();
+    private static final diagResultNames[] DIAG_RESULTS = createDiagResults();
+    private static final inputNames[] INPUTS = createInputs();
+
+    private NECMultisyncResponseDecoder() {
+    }
+
+    /**
+     * Verifies the check code of a reply and resolves its type
+     *
+     * @param response buffer holding the reply
+     * @param offset position of the SOH byte
+     * @param length number of bytes of the reply, carriage return included
+     * @return responseValues type of the reply; {@link responseValues#MALFORMED} and {@link responseValues#CHECKSUM_ERROR}
+     * for broken frames, {@link responseValues#UNSUPPORTED} and {@link responseValues#RESULT_ERROR} when the display
+     * rejected the command, {@link responseValues#UNKNOWN} for any other reply
+     */
+    static responseValues getReplyType(byte[] response, int offset, int length) {
+        if (length < MIN_LENGTH) {
+            return responseValues.MALFORMED;
+        }
+        if (response[offset + length - 2] != checksum(response, offset + 1, length - 3)) {
+            return responseValues.CHECKSUM_ERROR;
+        }
+        int end = offset + length - 3;
+        byte messageType = response[offset + MESSAGE_TYPE_OFFSET];
+        if (offset + OPCODE_OFFSET + 2 > end) {
+            return responseValues.UNKNOWN;
+        }
+        int result = pack2(response, offset + RESULT_OFFSET);
+        if (messageType == MSG_TYPE_CMD_REPLY) {
+            if (result == RESERVED_DATA) {
+                int resultCode = pack2(response, offset + OPCODE_OFFSET);
+                if (resultCode == UNSUPPORTED) {
+                    return responseValues.UNSUPPORTED;
+                }
+                if (resultCode == NO_ERROR && offset + VALUE_OFFSET + 4 <= end && pack2(response, offset + 12) == POWER_STATUS_READ) {
+                    return responseValues.POWER_STATUS_READ;
+                }
+            } else if (result == NO_ERROR) {
+                if (offset + VALUE_OFFSET <= end && pack2(response, offset + OPCODE_OFFSET) == POWER_CONTROL_HIGH
+                        && pack4(response, offset + 12) == POWER_CONTROL_LOW) {
+                    return responseValues.POWER_CONTROL;
+                }
+            } else if (result == UNSUPPORTED) {
+                return responseValues.UNSUPPORTED;
+            } else if (result == SELF_DIAG) {
+                return responseValues.SELF_DIAG;
+            }
+            return responseValues.UNKNOWN;
+        }
+        if (messageType == MSG_TYPE_GET_REPLY || messageType == MSG_TYPE_SET_REPLY) {
+            if (result != NO_ERROR) {
+                return messageType == MSG_TYPE_GET_REPLY ? responseValues.RESULT_ERROR : responseValues.UNSUPPORTED;
+            }
+            if (offset + VALUE_OFFSET + 4 > end) {
+                return responseValues.UNKNOWN;
+            }
+            int opcode = pack4(response, offset + OPCODE_OFFSET);
+            if (messageType == MSG_TYPE_GET_REPLY) {
+                if (opcode == GET_INPUT) {
+                    return responseValues.INPUT_STATUS_READ;
+                }
+                if (opcode == GET_TEMP) {
+                    return responseValues.GET_TEMPERATURE;
+                }
+            } else {
+                //input set replies echo the opcode sent, accept the input status opcode as well
+                if (opcode == SET_INPUT || opcode == GET_INPUT) {
+                    return responseValues.INPUT_CONTROL;
+                }
+                if (opcode == SET_SENSOR) {
+                    return responseValues.SENSOR_SELECT;
+                }
+            }
+        }
+        return responseValues.UNKNOWN;
+    }
+
+    /**
+     * Retrieves the power status of a {@link responseValues#POWER_STATUS_READ} reply
+     *
+     * @param response buffer holding the reply
+     * @param offset position of the SOH byte
+     * @return powerStatus current power status, or null if the value is out of range
+     */
+    static powerStatus getPowerStatus(byte[] response, int offset) {
+        int value = parseHex(response, offset + VALUE_OFFSET, 4);
+        return value > 0 && value <= POWER_STATUSES.length ? POWER_STATUSES[value - 1] : null;
+    }
+
+    /**
+     * Retrieves the diagnosis result of a {@link responseValues#SELF_DIAG} reply
+     *
+     * @param response buffer holding the reply
+     * @param offset position of the SOH byte
+     * @return diagResultNames diagnosis result, or null if the code is unknown
+     */
+    static diagResultNames getDiagResult(byte[] response, int offset) {
+        int value = parseHex(response, offset + OPCODE_OFFSET, 2);
+        return value < 0 ? null : DIAG_RESULTS[value];
+    }
+
+    /**
+     * Retrieves the input of a {@link responseValues#INPUT_STATUS_READ} or {@link responseValues#INPUT_CONTROL} reply
+     *
+     * @param response buffer holding the reply
+     * @param offset position of the SOH byte
+     * @return inputNames current input, or null if the code is unknown
+     */
+    static inputNames getInput(byte[] response, int offset) {
+        int value = parseHex(response, offset + VALUE_OFFSET, 4);
+        return value < 0 || value >= INPUTS.length ? null : INPUTS[value];
+    }
+
+    /**
+     * Retrieves the temperature of a {@link responseValues#GET_TEMPERATURE} reply
+     *
+     * @param response buffer holding the reply
+     * @param offset position of the SOH byte
+     * @return int temperature in Celsius degrees
+     */
+    static int getTemperature(byte[] response, int offset) {
+        int value = parseHex(response, offset + VALUE_OFFSET, 4);
+        if (value < 0) {
+            throw new NumberFormatException("Invalid temperature value received");
+        }
+        return value / 2;
+    }
+
+    /**
+     * Calculates the xor checksum of a range of bytes, without copying them
+     *
+     * @param bytes buffer holding the bytes
+     * @param offset position of the first byte
+     * @param length number of bytes
+     * @return byte calculated xor checksum
+     */
+    static byte checksum(byte[] bytes, int offset, int length) {
+        byte checkSum = 0;
+        for (int i = offset; i < offset + length; i++) {
+            checkSum ^= bytes[i];
+        }
+        return checkSum;
+    }
+
+    /**
+     * Parses ASCII hex digits
+     *
+     * @return int parsed value, or -1 if one of the bytes is not a hex digit
+     */
+    private static int parseHex(byte[] bytes, int offset, int digits) {
+        int value = 0;
+        for (int i = offset; i < offset + digits; i++) {
+            int digit = bytes[i] < 0 ? -1 : HEX_VALUES[bytes[i]];
+            if (digit < 0) {
+                return -1;
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private static int pack2(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 8 | bytes[offset + 1] & 0xFF;
+    }
+
+    private static int pack4(byte[] bytes, int offset) {
+        return pack2(bytes, offset) << 16 | pack2(bytes, offset + 2);
+    }
+
+    private static int[] createHexValues() {
+        int[] values = new int[128];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Character.digit(i, 16);
+        }
+        return values;
+    }
+
+    private static diagResultNames[] createDiagResults() {
+        diagResultNames[] results = new diagResultNames[256];
+        for (Map.Entry<diagResultNames, byte[]> entry : DIAG_RESULT_CODES.entrySet()) {
+            results[parseHex(entry.getValue(), 0, 2)] = entry.getKey();
+        }
+        return results;
+    }
+
+    private static inputNames[] createInputs() {
+        int max = 0;
+        for (byte[] code : inputs.values()) {
+            max = Math.max(max, parseHex(code, 0, 4));
+        }
+        inputNames[] results = new inputNames[max + 1];
+        for (Map.Entry<inputNames, byte[]> entry : inputs.entrySet()) {
+            results[parseHex(entry.getValue(), 0, 4)] = entry.getKey();
+        }
+        return results;
+    }
+}
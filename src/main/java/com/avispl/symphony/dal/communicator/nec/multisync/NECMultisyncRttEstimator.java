@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reply timeout of a display, derived from the round trip times observed on its connection the way TCP derives its
+ * retransmission timeout (RFC 6298): the timeout is the smoothed round trip time plus four times its variation,
+ * bounded by a configurable floor and ceiling. A display on a slow WAN link gets more time, a dead display on the LAN
+ * fails within the floor.
+ * <p>
+ * Until a reply is received, {@link NECMultisyncConstants#INITIAL_REPLY_TIMEOUT} is used. Each missing reply doubles the
+ * timeout of the display it was expected from until that display replies, so a display that became slower is not
+ * considered dead on the first late reply. The round trip time is shared by the displays of a daisy chain, the backoff
+ * is not: a dead display at the end of the chain doesn't slow down the queries of the others.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+final class NECMultisyncRttEstimator {
+
+    private static final double RTT_GAIN = 1.0 / 8;
+    private static final double VARIANCE_GAIN = 1.0 / 4;
+    private static final double CLOCK_GRANULARITY = 1;
+
+    private int minTimeout = NECMultisyncConstants.DEFAULT_MIN_REPLY_TIMEOUT;
+    private int maxTimeout = NECMultisyncConstants.DEFAULT_MAX_REPLY_TIMEOUT;
+    private double smoothedRtt = -1;
+    private double rttVariance;
+    private volatile int timeout = bound(NECMultisyncConstants.INITIAL_REPLY_TIMEOUT);
+    //number of missing replies since the last reply, per monitor ID as sent in frame headers
+    private final int[] backoff = new int[256];
+
+    /**
+     * Sets the floor and the ceiling of the timeout
+     *
+     * @param minTimeout minimum timeout in milliseconds
+     * @param maxTimeout maximum timeout in milliseconds, raised to the minimum if lower
+     */
+    synchronized void setBounds(int minTimeout, int maxTimeout) {
+        this.minTimeout = Math.max(1, minTimeout);
+        this.maxTimeout = Math.max(this.minTimeout, maxTimeout);
+        timeout = smoothedRtt < 0 ? bound(NECMultisyncConstants.INITIAL_REPLY_TIMEOUT) : computeTimeout();
+    }
+
+    /**
+     * Retrieves the time to wait for a reply on the connection, without the backoff of any display
+     *
+     * @return int reply timeout in milliseconds
+     */
+    int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Retrieves the time to wait for a reply of a display: the timeout of the connection, doubled for each reply
+     * missing since the display last replied
+     *
+     * @param monitorID monitor ID as sent in frame headers
+     * @return int reply timeout in milliseconds
+     */
+    synchronized int getTimeout(int monitorID) {
+        return bound((long) timeout << Math.min(backoff[monitorID & 0xFF], 16));
+    }
+
+    /**
+     * Retrieves the ceiling of the timeout, also used as connection timeout
+     *
+     * @return int maximum timeout in milliseconds
+     */
+    synchronized int getMaxTimeout() {
+        return maxTimeout;
+    }
+
+    /**
+     * Retrieves the smoothed round trip time
+     *
+     * @return double round trip time in milliseconds, -1 until a reply is received
+     */
+    synchronized double getSmoothedRtt() {
+        return smoothedRtt;
+    }
+
+    /**
+     * Retrieves the variation of the round trip time
+     *
+     * @return double mean deviation of the round trip time in milliseconds
+     */
+    synchronized double getRttVariance() {
+        return rttVariance;
+    }
+
+    /**
+     * Records the round trip time of a frame, from the frame being sent to its reply being received
+     *
+     * @param nanos round trip time in nanoseconds
+     */
+    synchronized void onReply(long nanos) {
+        double rtt = nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        if (smoothedRtt < 0) {
+            smoothedRtt = rtt;
+            rttVariance = rtt / 2;
+        } else {
+            rttVariance = (1 - VARIANCE_GAIN) * rttVariance + VARIANCE_GAIN * Math.abs(smoothedRtt - rtt);
+            smoothedRtt = (1 - RTT_GAIN) * smoothedRtt + RTT_GAIN * rtt;
+        }
+        timeout = computeTimeout();
+    }
+
+    /**
+     * Records a missing reply, the timeout of the display is doubled until it replies
+     *
+     * @param monitorID monitor ID the reply was expected from, as sent in frame headers
+     */
+    synchronized void onTimeout(int monitorID) {
+        backoff[monitorID & 0xFF]++;
+    }
+
+    /**
+     * Clears the backoff of a display, once it replied, or once it is considered unreachable and only probed
+     *
+     * @param monitorID monitor ID as sent in frame headers
+     */
+    synchronized void resetBackoff(int monitorID) {
+        backoff[monitorID & 0xFF] = 0;
+    }
+
+    private int computeTimeout() {
+        return bound((long) Math.ceil(smoothedRtt + Math.max(CLOCK_GRANULARITY, 4 * rttVariance)));
+    }
+
+    private int bound(long value) {
+        return (int) Math.max(minTimeout, Math.min(maxTimeout, value));
+    }
+}
@@ -3,9 +3,6 @@
  */
 package com.avispl.symphony.dal.communicator.nec.multisync;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Utils class for NEC MultiSync monitor properties.
  *
@@ -22,6 +19,9 @@ public class NECMultisyncUtils {
     private final static byte RESERVED = 0x30;
     private final static byte CTRL_ADDR = 0x30;
     private final static byte CARRIAGE_RETURN = 0x0D;
+    private final static int HEADER_LENGTH = 7;
+    //message size is sent as lower case hex digits
+    private final static byte[] HEX_DIGITS = "0123456789abcdef".getBytes();
 
     /**
      * This method is used to calculate the xor checksum of a byte array
@@ -75,56 +75,62 @@ public class NECMultisyncUtils {
      * @return byte[] This returns the string to be sent to the NEC display
      */
     static byte[] buildSendString(byte monitorID, byte messageType, byte[] command, byte[] param){
-        List<Byte> bytes = new ArrayList<>();
-
-        List<Byte> header = new ArrayList<>();
-        List<Byte> message = new ArrayList<>();
+        byte[] frame = new byte[getFrameLength(command, param)];
+        encodeFrame(frame, 0, monitorID, messageType, command, param);
+        return frame;
+    }
 
+    /**
+     * This method is used to calculate the size of a frame built according to the NEC Protocol
+     * @param command This is the byte array reprensenting the command to be sent
+     * @param param This is the byte array reprensenting the parameter values to be sent, may be null
+     * @return int This returns the number of bytes of the whole frame, from SOH to the carriage return
+     */
+    static int getFrameLength(byte[] command, byte[] param){
+        return HEADER_LENGTH + command.length + (param == null ? 0 : param.length) + 4;
+    }
 
-        //build message first as it's size is required in header
+    /**
+     * This method is used to write a frame directly into a (reusable) buffer according to the NEC Protocol.
+     * The message size is known upfront, so the header is written first and the xor checksum is computed
+     * while writing, without any intermediate list or copy.
+     * @param buffer This is the buffer to write to, it must have at least {@link #getFrameLength(byte[], byte[])} bytes left
+     * @param offset This is the position of the SOH byte in the buffer
+     * @param monitorID This is byte representing the monitor ID (1=41h -> 26=5Ah, ALL = 2Ah)
+     * @param messageType This is byte representing the type of message to be sent (see NECMultisyncConstants)
+     * @param command This is the byte array reprensenting the command to be sent (see NECMultisyncConstants)
+     * @param param This is the byte array reprensenting the parameter values to be sent, may be null
+     * @return int This returns the number of bytes written
+     */
+    static int encodeFrame(byte[] buffer, int offset, byte monitorID, byte messageType, byte[] command, byte[] param){
+        int messageSize = command.length + (param == null ? 0 : param.length) + 2;
+        int position = offset;
+        byte checkSum = 0;
 
-        message.add(STX);
+        //header
+        buffer[position++] = SOH;
+        checkSum ^= buffer[position++] = RESERVED;
+        checkSum ^= buffer[position++] = monitorID;
+        checkSum ^= buffer[position++] = CTRL_ADDR;
+        checkSum ^= buffer[position++] = messageType;
+        checkSum ^= buffer[position++] = HEX_DIGITS[(messageSize >> 4) & 0x0F];
+        checkSum ^= buffer[position++] = HEX_DIGITS[messageSize & 0x0F];
+
+        //message
+        checkSum ^= buffer[position++] = STX;
         for(byte b:command){
-            message.add(b);
+            checkSum ^= buffer[position++] = b;
         }
         if(param != null) {
             for(byte b:param){
-                message.add(b);
+                checkSum ^= buffer[position++] = b;
             }
         }
-        message.add(ETX);
-
-        //build header
-
-        header.add(SOH);
-        header.add(RESERVED);
-        header.add(monitorID);
-        header.add(CTRL_ADDR);
-        header.add(messageType);
-
-        String messageSize =String.format("%02x", message.size());
-        header.add(messageSize.getBytes()[0]);
-        header.add(messageSize.getBytes()[1]);
-
-        bytes.addAll(header);
-        bytes.addAll(message);
-
-        byte[] checksumBytes = new byte[header.size()-1+message.size()];
-        for (int i = 1; i < header.size(); i++) {
-            checksumBytes[i-1] = header.get(i);
-        }
-        for (int i = 0; i < message.size(); i++) {
-            checksumBytes[i+header.size()-1] = message.get(i);
-        }
+        checkSum ^= buffer[position++] = ETX;
 
-        bytes.add(xor(checksumBytes));
-        bytes.add(CARRIAGE_RETURN);
-
-        byte[] byteArray = new byte[bytes.size()];
-        for (int i = 0; i < bytes.size(); i++) {
-            byteArray[i] = bytes.get(i);
-        }
+        buffer[position++] = checkSum;
+        buffer[position++] = CARRIAGE_RETURN;
 
-        return byteArray;
+        return position - offset;
     }
 }
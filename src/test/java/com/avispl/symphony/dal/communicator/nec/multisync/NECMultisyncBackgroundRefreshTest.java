@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * NECMultisyncBackgroundRefreshTest for unit test of the background statistics refresh of {@link NECMultisyncDevice},
+ * run against a slow display simulated by {@link NECMultisyncSimulator}. The poll latency with and without background
+ * refresh is measured by NECMultisyncBackgroundRefreshBenchmark.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncBackgroundRefreshTest {
+	private static final int LATENCY = 1000;
+
+	private static String getInput(NECMultisyncDevice necMultisyncDevice) throws Exception {
+		return ((ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0)).getStatistics().get("Input");
+	}
+
+	/**
+	 * With background refresh, a poll returns the snapshot without waiting for any reply of the slow display,
+	 * which is refreshed in the background
+	 */
+	@Test
+	void testPollDoesNotWaitForTheDisplay() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			//only the input is refreshed after the first cycle, the timeout floor leaves room for the slow replies
+			necMultisyncDevice.setRefreshIntervals("Power:600,Input:0,Diagnosis:600,Temperature:600");
+			necMultisyncDevice.setMinReplyTimeout(3 * LATENCY);
+			necMultisyncDevice.init();
+			Assert.assertEquals("HDMI1", getInput(necMultisyncDevice));
+
+			necMultisyncDevice.setStatisticsMaxAge(1);
+			simulator.getMonitor(1).setInput(18);
+			simulator.setLatency(LATENCY, 0);
+			Thread.sleep(5);
+			long sentFrames = simulator.getSentFrames();
+			Assert.assertEquals("HDMI1", getInput(necMultisyncDevice));
+			Assert.assertEquals("The poll waited for the display", sentFrames, simulator.getSentFrames());
+
+			long startTime = System.nanoTime();
+			while (!"HDMI2".equals(getInput(necMultisyncDevice)) && System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(30)) {
+				Thread.sleep(50);
+			}
+			Assert.assertEquals("HDMI2", getInput(necMultisyncDevice));
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+
+	/**
+	 * A failed background refresh is reported to the next poll
+	 */
+	@Test
+	void testBackgroundFailureIsReported() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.setStatisticsMaxAge(1);
+			necMultisyncDevice.setMinReplyTimeout(100);
+			necMultisyncDevice.setMaxReplyTimeout(200);
+			necMultisyncDevice.init();
+			necMultisyncDevice.getMultipleStatistics();
+			simulator.setDropRate(1);
+			boolean reported = false;
+			long startTime = System.nanoTime();
+			while (!reported && System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(5)) {
+				try {
+					necMultisyncDevice.getMultipleStatistics();
+					Thread.sleep(20);
+				} catch (ResourceNotReachableException e) {
+					reported = true;
+				}
+			}
+			Assert.assertTrue(reported);
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+}
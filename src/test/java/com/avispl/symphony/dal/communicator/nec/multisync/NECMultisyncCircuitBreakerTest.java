@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * NECMultisyncCircuitBreakerTest for unit test of {@link NECMultisyncCircuitBreaker}, and of the circuit breaker of
+ * {@link NECMultisyncDevice} run against {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncCircuitBreakerTest {
+
+	/**
+	 * The circuit opens after the configured number of consecutive failures, and probes at a doubling interval
+	 */
+	@Test
+	void testProbeIntervalBacksOff() {
+		NECMultisyncCircuitBreaker circuitBreaker = new NECMultisyncCircuitBreaker();
+		circuitBreaker.setFailureThreshold(2);
+		circuitBreaker.setProbeInterval(1000);
+		circuitBreaker.onFailure(0);
+		circuitBreaker.onSuccess();
+		circuitBreaker.onFailure(0);
+		Assert.assertEquals(NECMultisyncCircuitBreaker.State.CLOSED, circuitBreaker.check(0));
+		circuitBreaker.onFailure(0);
+		Assert.assertEquals(NECMultisyncCircuitBreaker.State.OPEN, circuitBreaker.check(999));
+		Assert.assertEquals(NECMultisyncCircuitBreaker.State.HALF_OPEN, circuitBreaker.check(1000));
+		circuitBreaker.onFailure(1000);
+		Assert.assertEquals(NECMultisyncCircuitBreaker.State.OPEN, circuitBreaker.check(2999));
+		Assert.assertEquals(NECMultisyncCircuitBreaker.State.HALF_OPEN, circuitBreaker.check(3000));
+		circuitBreaker.onFailure(3000);
+		Assert.assertEquals(7000, circuitBreaker.getNextProbe());
+		for (int i = 0; i < 16; i++) {
+			circuitBreaker.check(Long.MAX_VALUE);
+			circuitBreaker.onFailure(0);
+		}
+		Assert.assertEquals(NECMultisyncConstants.MAX_PROBE_INTERVAL, circuitBreaker.getNextProbe());
+		circuitBreaker.check(Long.MAX_VALUE);
+		circuitBreaker.onSuccess();
+		Assert.assertEquals(NECMultisyncCircuitBreaker.State.CLOSED, circuitBreaker.check(0));
+		Assert.assertEquals(1, circuitBreaker.getOpenCount());
+	}
+
+	/**
+	 * A display that stopped replying is reported stale at once without being queried, until it replies to a probe
+	 */
+	@Test
+	void testUnreachableDisplayFailsFast() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+			necMultisyncDevice.setMinReplyTimeout(100);
+			necMultisyncDevice.setMaxReplyTimeout(200);
+			necMultisyncDevice.setProbeInterval(1);
+			necMultisyncDevice.init();
+			necMultisyncDevice.getMultipleStatistics();
+			simulator.setDropRate(1);
+			for (int i = 0; i < NECMultisyncConstants.DEFAULT_CIRCUIT_BREAKER_THRESHOLD; i++) {
+				try {
+					necMultisyncDevice.getMultipleStatistics();
+					Assert.fail("The display doesn't reply");
+				} catch (ResourceNotReachableException e) {
+					//not considered down yet
+				}
+			}
+			long receivedFrames = simulator.getReceivedFrames();
+			long startTime = System.nanoTime();
+			Map<String, String> statistics = ((ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0)).getStatistics();
+			Assert.assertTrue(System.nanoTime() - startTime < TimeUnit.MILLISECONDS.toNanos(50));
+			Assert.assertEquals(NECMultisyncConstants.STATUS_STALE, statistics.get(NECMultisyncConstants.MONITOR_STATUS));
+			Assert.assertEquals("1", statistics.get("Power"));
+			Assert.assertEquals(receivedFrames, simulator.getReceivedFrames());
+
+			//the probe fails, the next one is due in 2 seconds
+			Thread.sleep(1100);
+			necMultisyncDevice.getMultipleStatistics();
+			Assert.assertEquals(receivedFrames + 1, simulator.getReceivedFrames());
+			simulator.setDropRate(0);
+			Thread.sleep(1100);
+			necMultisyncDevice.getMultipleStatistics();
+			Assert.assertEquals(receivedFrames + 1, simulator.getReceivedFrames());
+			Thread.sleep(1000);
+			statistics = ((ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0)).getStatistics();
+			Assert.assertNull(statistics.get(NECMultisyncConstants.MONITOR_STATUS));
+			Assert.assertEquals(NECMultisyncCircuitBreaker.State.CLOSED, necMultisyncDevice.getCircuitBreaker().getState());
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+}
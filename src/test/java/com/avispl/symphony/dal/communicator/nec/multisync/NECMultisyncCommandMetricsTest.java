@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncCommandMetrics.Command;
+
+/**
+ * NECMultisyncCommandMetricsTest for unit test of {@link NECMultisyncCommandMetrics} and of the AdapterMetrics statistics
+ * of {@link NECMultisyncDevice}, run against {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncCommandMetricsTest {
+
+	private static Map<String, String> getStatistics(NECMultisyncDevice necMultisyncDevice) throws Exception {
+		return ((ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0)).getStatistics();
+	}
+
+	/**
+	 * Each frame sent by the adapter is recorded under its command
+	 */
+	@Test
+	void testCommandOfFrame() {
+		Assert.assertEquals(Command.Power, NECMultisyncCommandMetrics.getCommand(NECMultisyncQuery.POWER.getFrame(0x41)));
+		Assert.assertEquals(Command.Diagnosis, NECMultisyncCommandMetrics.getCommand(NECMultisyncQuery.DIAGNOSIS.getFrame(0x41)));
+		Assert.assertEquals(Command.Input, NECMultisyncCommandMetrics.getCommand(NECMultisyncQuery.INPUT.getFrame(0x41)));
+		Assert.assertEquals(Command.SensorSelect, NECMultisyncCommandMetrics.getCommand(NECMultisyncQuery.SENSOR_SELECT.getFrame(0x41)));
+		Assert.assertEquals(Command.Temperature, NECMultisyncCommandMetrics.getCommand(NECMultisyncQuery.TEMPERATURE.getFrame(0x41)));
+		Assert.assertEquals(Command.Control, NECMultisyncCommandMetrics.getCommand(NECMultisyncUtils.buildSendString((byte) 0x41,
+				NECMultisyncConstants.MSG_TYPE_CMD, NECMultisyncConstants.CMD_SET_POWER, new byte[] { 0x30, 0x30, 0x30, 0x31 })));
+		Assert.assertEquals(Command.Control, NECMultisyncCommandMetrics.getCommand(NECMultisyncUtils.buildSendString((byte) 0x41,
+				NECMultisyncConstants.MSG_TYPE_SET, NECMultisyncConstants.CMD_SET_INPUT, new byte[] { 0x30, 0x30, 0x31, 0x31 })));
+	}
+
+	/**
+	 * Metrics are reported only when enabled, with the unsupported results and reconnections seen by the adapter
+	 */
+	@Test
+	void testAdapterMetricsStatistics() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		simulator.addUnsupportedOpcode("B1");
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+			necMultisyncDevice.init();
+			Map<String, String> statistics = getStatistics(necMultisyncDevice);
+			Assert.assertFalse(statistics.keySet().stream().anyMatch(name -> name.startsWith("Adapter")));
+
+			necMultisyncDevice.setAdapterMetrics(true);
+			getStatistics(necMultisyncDevice);
+			necMultisyncDevice.disconnect();
+			statistics = getStatistics(necMultisyncDevice);
+			Assert.assertEquals("2", statistics.get("AdapterMetrics#PowerRequests"));
+			Assert.assertEquals("0", statistics.get("AdapterMetrics#PowerTimeouts"));
+			Assert.assertNotNull(statistics.get("AdapterMetrics#TemperatureLatencyP99(ms)"));
+			Assert.assertEquals("2", statistics.get("AdapterMetrics#DiagnosisUnsupported"));
+			Assert.assertEquals("1", statistics.get("AdapterMetrics#Reconnects"));
+			Assert.assertNull(statistics.get("AdapterMetrics#ControlRequests"));
+
+			necMultisyncDevice.setAdapterMetrics(false);
+			statistics = getStatistics(necMultisyncDevice);
+			Assert.assertFalse(statistics.keySet().stream().anyMatch(name -> name.startsWith("Adapter")));
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+}
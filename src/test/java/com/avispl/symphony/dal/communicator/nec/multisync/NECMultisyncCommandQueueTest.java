@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * NECMultisyncCommandQueueTest for unit test of {@link NECMultisyncCommandQueue}, and of controls preempting
+ * a statistics cycle of {@link NECMultisyncDevice} run against {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncCommandQueueTest {
+	private static final int LATENCY = 300;
+
+	private static Thread start(NECMultisyncCommandQueue queue, NECMultisyncCommandQueue.Priority priority, List<String> served, String name) {
+		Thread thread = new Thread(() -> {
+			queue.acquire(priority);
+			served.add(name);
+			queue.release();
+		});
+		thread.start();
+		return thread;
+	}
+
+	private static void awaitDepth(NECMultisyncCommandQueue queue, int depth) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (queue.getDepth() < depth && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(depth, queue.getDepth());
+	}
+
+	/**
+	 * Controls waiting for the queue are served before background commands that waited longer
+	 */
+	@Test
+	void testControlsAreServedFirst() throws Exception {
+		NECMultisyncCommandQueue queue = new NECMultisyncCommandQueue();
+		List<String> served = new CopyOnWriteArrayList<>();
+		queue.acquire(NECMultisyncCommandQueue.Priority.BACKGROUND);
+		Thread background = start(queue, NECMultisyncCommandQueue.Priority.BACKGROUND, served, "background");
+		awaitDepth(queue, 1);
+		Thread control = start(queue, NECMultisyncCommandQueue.Priority.CONTROL, served, "control");
+		awaitDepth(queue, 2);
+		Assert.assertFalse(queue.tryAcquire(NECMultisyncCommandQueue.Priority.BACKGROUND));
+		queue.release();
+		background.join();
+		control.join();
+		Assert.assertEquals("control", served.get(0));
+		Assert.assertEquals("background", served.get(1));
+		Assert.assertEquals(0, queue.getDepth());
+	}
+
+	/**
+	 * A background command hands the queue over to waiting controls at a frame boundary, and gets it back before
+	 * other background commands
+	 */
+	@Test
+	void testBackgroundCommandYieldsToControls() throws Exception {
+		NECMultisyncCommandQueue queue = new NECMultisyncCommandQueue();
+		List<String> served = new CopyOnWriteArrayList<>();
+		queue.acquire(NECMultisyncCommandQueue.Priority.BACKGROUND);
+		Assert.assertFalse(queue.yieldToControls());
+		Thread background = start(queue, NECMultisyncCommandQueue.Priority.BACKGROUND, served, "background");
+		awaitDepth(queue, 1);
+		Thread control = start(queue, NECMultisyncCommandQueue.Priority.CONTROL, served, "control");
+		awaitDepth(queue, 2);
+		Assert.assertTrue(queue.yieldToControls());
+		served.add("cycle");
+		queue.release();
+		background.join();
+		control.join();
+		Assert.assertEquals("control", served.get(0));
+		Assert.assertEquals("cycle", served.get(1));
+		Assert.assertEquals("background", served.get(2));
+		Assert.assertEquals(1, queue.getPreemptionCount());
+		Assert.assertEquals(1, queue.getWaitTimes(NECMultisyncCommandQueue.Priority.CONTROL).getCount());
+		Assert.assertTrue(queue.getWaitTimes(NECMultisyncCommandQueue.Priority.CONTROL).getMax() > 0);
+	}
+
+	/**
+	 * A control issued during a statistics cycle against a slow display is sent at the next frame boundary,
+	 * instead of waiting for the cycle to complete, and is reported by the cycle
+	 */
+	@Test
+	void testControlPreemptsStatisticsCycle() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+			necMultisyncDevice.init();
+			necMultisyncDevice.getMultipleStatistics();
+			simulator.setLatency(LATENCY, 0);
+
+			AtomicLong cycleEnd = new AtomicLong();
+			AtomicReference<ExtendedStatistics> cycleStatistics = new AtomicReference<>();
+			Thread cycle = new Thread(() -> {
+				try {
+					cycleStatistics.set((ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0));
+				} catch (Exception e) {
+					//reported by the missing statistics
+				}
+				cycleEnd.set(System.nanoTime());
+			});
+			cycle.start();
+			Thread.sleep(LATENCY / 2);
+
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty("Input");
+			controllableProperty.setValue("HDMI2");
+			long startTime = System.nanoTime();
+			necMultisyncDevice.controlProperty(controllableProperty);
+			long controlEnd = System.nanoTime();
+			cycle.join();
+
+			//the control waits for the frame in flight and sends its own frame, the cycle has 4 frames to send
+			Assert.assertTrue("The control took " + TimeUnit.NANOSECONDS.toMillis(controlEnd - startTime) + " ms",
+					controlEnd - startTime < TimeUnit.MILLISECONDS.toNanos(LATENCY * 3));
+			Assert.assertTrue(controlEnd < cycleEnd.get());
+			Assert.assertEquals("HDMI2", cycleStatistics.get().getStatistics().get("Input"));
+			Assert.assertEquals(1, necMultisyncDevice.getCommandQueue().getPreemptionCount());
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+}
@@ -26,14 +26,16 @@ import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
  * @since 1.0.0
  */
 public class NECMultisyncCommunicatorTest {
+	private NECMultisyncSimulator simulator;
 	private NECMultisyncDevice necMultisyncDevice;
 	static ExtendedStatistics extendedStatistic;
 
 	@BeforeEach()
 	public void setUp() throws Exception {
+		simulator = new NECMultisyncSimulator(0, 1);
 		necMultisyncDevice = new NECMultisyncDevice();
-		necMultisyncDevice.setHost("");
-		necMultisyncDevice.setPort(7142);
+		necMultisyncDevice.setHost("127.0.0.1");
+		necMultisyncDevice.setPort(simulator.getPort());
 		necMultisyncDevice.setLogin("");
 		necMultisyncDevice.setPassword("");
 		necMultisyncDevice.init();
@@ -43,6 +45,7 @@ public class NECMultisyncCommunicatorTest {
 	@AfterEach()
 	public void destroy() throws Exception {
 		necMultisyncDevice.disconnect();
+		simulator.close();
 	}
 
 	/**
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NECMultisyncConnectionTest for unit test of the corrupted frame and late reply recovery, and of the reply timing of
+ * {@link NECMultisyncConnection}, run against {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncConnectionTest {
+
+	/**
+	 * Corrupted replies and noise are recovered from on the same connection, the query is sent again
+	 */
+	@Test
+	void testCorruptedRepliesAreRetried() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		simulator.setCorruptRate(0.3);
+		simulator.setNoiseRate(0.3);
+		NECMultisyncConnection connection = new NECMultisyncConnection("127.0.0.1", simulator.getPort(), new NECMultisyncPacer(), new NECMultisyncRttEstimator());
+		try {
+			connection.open();
+			byte[] frame = NECMultisyncQuery.POWER.getFrame(0x41);
+			int corrupted = 0;
+			for (int i = 0; i < 100; i++) {
+				byte[] reply = connection.exchange(frame, 1000);
+				if (NECMultisyncConnection.isCorrupted(reply)) {
+					corrupted++;
+				} else {
+					Assert.assertEquals(NECMultisyncConstants.responseValues.POWER_STATUS_READ, NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length));
+				}
+			}
+			Assert.assertTrue(corrupted <= 10);
+			Assert.assertTrue(connection.getChecksumErrorCount() > 0);
+			Assert.assertTrue(connection.getResyncCount() > 0);
+			Assert.assertEquals(connection.getChecksumErrorCount(), connection.getRetryCount() + corrupted);
+			Assert.assertTrue(connection.isOpen());
+			Assert.assertEquals(1, connection.getGeneration());
+		} finally {
+			connection.close();
+			simulator.close();
+		}
+	}
+
+	/**
+	 * A reply arriving after its timeout is not taken for the reply of the next frame, the connection is reopened
+	 */
+	@Test
+	void testLateReplyIsDropped() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		simulator.setLatency(300, 0);
+		NECMultisyncConnection connection = new NECMultisyncConnection("127.0.0.1", simulator.getPort(), new NECMultisyncPacer(), new NECMultisyncRttEstimator());
+		try {
+			connection.open();
+			byte[][] replies = connection.exchangeEach(new byte[][] { NECMultisyncQuery.POWER.getFrame(0x41) }, 100);
+			Assert.assertNull(replies[0]);
+			//the power status reply is on its way while the next query is sent
+			simulator.setLatency(0, 0);
+			byte[] reply = connection.exchange(NECMultisyncQuery.INPUT.getFrame(0x41), 1000);
+			Assert.assertEquals(NECMultisyncConstants.responseValues.INPUT_STATUS_READ, NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length));
+			Assert.assertEquals(2, connection.getGeneration());
+
+			//same query again: the display reports its current state, not the late reply of the previous query
+			simulator.setLatency(300, 0);
+			Assert.assertNull(connection.exchangeEach(new byte[][] { NECMultisyncQuery.POWER.getFrame(0x41) }, 100)[0]);
+			simulator.setLatency(0, 0);
+			simulator.getMonitor(1).setPower(2);
+			reply = connection.exchange(NECMultisyncQuery.POWER.getFrame(0x41), 1000);
+			Assert.assertEquals(NECMultisyncConstants.powerStatus.STANDBY, NECMultisyncResponseDecoder.getPowerStatus(reply, 0));
+			Assert.assertEquals(3, connection.getGeneration());
+		} finally {
+			connection.close();
+			simulator.close();
+		}
+	}
+
+	/**
+	 * Pipelined replies are timed from the write of their own frame: a reply queued behind the previous one
+	 * reports the time it waited, not the time since the last write of the exchange
+	 */
+	@Test
+	void testPipelinedRepliesAreTimedFromTheirOwnWrite() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		simulator.setPipelining(true);
+		simulator.setLatency(100, 0);
+		NECMultisyncConnection connection = new NECMultisyncConnection("127.0.0.1", simulator.getPort(), new NECMultisyncPacer(), new NECMultisyncRttEstimator());
+		NECMultisyncCommandMetrics metrics = new NECMultisyncCommandMetrics();
+		connection.setMetrics(metrics);
+		try {
+			connection.open();
+			//power and input are sent together, diagnosis once the power status is received
+			byte[][] replies = connection.exchangeAll(new byte[][] { NECMultisyncQuery.POWER.getFrame(0x41), NECMultisyncQuery.INPUT.getFrame(0x41),
+					NECMultisyncQuery.DIAGNOSIS.getFrame(0x41) }, 2, 1000);
+			Assert.assertEquals(NECMultisyncConstants.responseValues.INPUT_STATUS_READ, NECMultisyncResponseDecoder.getReplyType(replies[1], 0, replies[1].length));
+			//in microseconds, the input and diagnosis replies each waited for the reply before them
+			long input = metrics.getLatencies(NECMultisyncCommandMetrics.Command.Input).getMax();
+			long diagnosis = metrics.getLatencies(NECMultisyncCommandMetrics.Command.Diagnosis).getMax();
+			Assert.assertTrue(input >= 180000);
+			Assert.assertTrue(diagnosis >= 180000);
+		} finally {
+			connection.close();
+			simulator.close();
+		}
+	}
+}
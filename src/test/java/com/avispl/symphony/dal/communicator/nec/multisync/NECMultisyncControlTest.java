@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * NECMultisyncControlTest for unit test of the controls of {@link NECMultisyncDevice}, run against {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncControlTest {
+	private static final int HDMI2 = 0x12;
+	private static final int DVI1 = 0x03;
+
+	private NECMultisyncSimulator simulator;
+	private NECMultisyncDevice necMultisyncDevice;
+
+	@BeforeEach()
+	public void setUp() throws Exception {
+		simulator = new NECMultisyncSimulator(0, 1);
+		necMultisyncDevice = new NECMultisyncDevice();
+		necMultisyncDevice.setHost("127.0.0.1");
+		necMultisyncDevice.setPort(simulator.getPort());
+		necMultisyncDevice.init();
+	}
+
+	@AfterEach()
+	public void destroy() throws Exception {
+		necMultisyncDevice.destroy();
+		simulator.close();
+	}
+
+	private static ControllableProperty control(String property, String value) {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(property);
+		controllableProperty.setValue(value);
+		return controllableProperty;
+	}
+
+	private static boolean await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (System.nanoTime() < deadline) {
+			if (condition.getAsBoolean()) {
+				return true;
+			}
+			Thread.sleep(50);
+		}
+		return false;
+	}
+
+	/**
+	 * A control returns once its command is accepted, the display switching later confirms it in the background
+	 */
+	@Test
+	void testControlDoesNotWaitForTheDisplay() throws Exception {
+		necMultisyncDevice.getMultipleStatistics();
+		simulator.getMonitor(1).setSwitchingDelay(2000);
+		long startTime = System.nanoTime();
+		necMultisyncDevice.controlProperty(control("Power", "0"));
+		Assert.assertTrue(System.nanoTime() - startTime < TimeUnit.MILLISECONDS.toNanos(1000));
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0);
+		Assert.assertEquals("0", extendedStatistics.getStatistics().get("Power"));
+		Assert.assertTrue(await(() -> simulator.getMonitor(1).getPower() == 4));
+	}
+
+	/**
+	 * Writes of a batch to the same property are collapsed, only the last one is sent
+	 */
+	@Test
+	void testBatchCollapsesWritesToTheSameProperty() throws Exception {
+		necMultisyncDevice.getMultipleStatistics();
+		long received = simulator.getReceivedFrames();
+		necMultisyncDevice.controlProperties(Arrays.asList(control("Input", "HDMI1"), control("Input", "HDMI2"), control("Input", "DVI1")));
+		Assert.assertEquals(1, simulator.getReceivedFrames() - received);
+		Assert.assertEquals(DVI1, simulator.getMonitor(1).getInput());
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0);
+		Assert.assertEquals("DVI1", extendedStatistics.getStatistics().get("Input"));
+	}
+
+	/**
+	 * A display in standby is powered on before its input is switched, the input command waits for the power confirmation
+	 */
+	@Test
+	void testBatchPowersOnBeforeSwitchingInput() throws Exception {
+		simulator.getMonitor(1).setPower(4);
+		necMultisyncDevice.getMultipleStatistics();
+		simulator.getMonitor(1).setSwitchingDelay(500);
+		necMultisyncDevice.controlProperties(Arrays.asList(control("Input", "HDMI2"), control("Power", "1")));
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0);
+		Assert.assertEquals("1", extendedStatistics.getStatistics().get("Power"));
+		Assert.assertEquals("HDMI2", extendedStatistics.getStatistics().get("Input"));
+		Assert.assertTrue(await(() -> simulator.getMonitor(1).getInput() == HDMI2));
+		Assert.assertEquals(1, simulator.getMonitor(1).getPower());
+	}
+
+	/**
+	 * A control the display doesn't confirm is reverted, the failure is reported in the next statistics
+	 */
+	@Test
+	void testUnconfirmedControlIsReported() throws Exception {
+		necMultisyncDevice.getMultipleStatistics();
+		simulator.getMonitor(1).setSwitchingDelay(60000);
+		necMultisyncDevice.controlProperty(control("Input", "HDMI2"));
+		Assert.assertTrue(await(() -> {
+			try {
+				ExtendedStatistics extendedStatistics = (ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0);
+				return extendedStatistics.getStatistics().containsKey("LastControlError");
+			} catch (Exception e) {
+				return false;
+			}
+		}));
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0);
+		Assert.assertEquals("HDMI1", extendedStatistics.getStatistics().get("Input"));
+		Assert.assertFalse(extendedStatistics.getStatistics().containsKey("LastControlError"));
+	}
+
+	/**
+	 * Destroying the adapter cancels the read-backs still confirming a control
+	 */
+	@Test
+	void testDestroyCancelsConfirmation() throws Exception {
+		necMultisyncDevice.getMultipleStatistics();
+		simulator.getMonitor(1).setSwitchingDelay(60000);
+		necMultisyncDevice.controlProperty(control("Input", "HDMI2"));
+		long controlled = simulator.getReceivedFrames();
+		//the first read-back doesn't confirm the input, the next one is scheduled
+		Assert.assertTrue(await(() -> simulator.getReceivedFrames() > controlled));
+		necMultisyncDevice.destroy();
+		long received = simulator.getReceivedFrames();
+		//longer than the next two read-back delays
+		Thread.sleep(2000);
+		Assert.assertEquals(received, simulator.getReceivedFrames());
+	}
+
+	/**
+	 * An input change waiting for the display to be powered on is not sent if the power control fails, it fails with it
+	 */
+	@Test
+	void testDeferredInputFailsWithPowerControl() throws Exception {
+		simulator.getMonitor(1).setPower(4);
+		necMultisyncDevice.getMultipleStatistics();
+		simulator.getMonitor(1).setSwitchingDelay(60000);
+		necMultisyncDevice.controlProperties(Arrays.asList(control("Input", "HDMI2"), control("Power", "1")));
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(NECMultisyncConstants.POWER_CONFIRMATION_TIMEOUT + 10000);
+		Map<String, String> statistics = null;
+		while (System.nanoTime() < deadline) {
+			statistics = ((ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0)).getStatistics();
+			if (statistics.containsKey("LastControlError")) {
+				break;
+			}
+			Thread.sleep(200);
+		}
+		Assert.assertNotNull(statistics);
+		Assert.assertEquals("Input HDMI2 was not sent, the monitor was not powered on", statistics.get("LastControlError"));
+		Assert.assertEquals("0", statistics.get("Power"));
+		Assert.assertEquals("HDMI1", statistics.get("Input"));
+		Assert.assertEquals(4, simulator.getMonitor(1).getPower());
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * NECMultisyncDaisyChainTest for unit test of the daisy chain sweep of {@link NECMultisyncDevice}, run against
+ * {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncDaisyChainTest {
+	private static final int MIN_REPLY_TIMEOUT = 200;
+
+	private NECMultisyncSimulator simulator;
+	private NECMultisyncDevice necMultisyncDevice;
+
+	@AfterEach()
+	public void destroy() throws Exception {
+		necMultisyncDevice.destroy();
+		simulator.close();
+	}
+
+	private void init(String monitorIDs) throws Exception {
+		necMultisyncDevice = new NECMultisyncDevice();
+		necMultisyncDevice.setHost("127.0.0.1");
+		necMultisyncDevice.setPort(simulator.getPort());
+		necMultisyncDevice.setMonitorIDs(monitorIDs);
+		necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+		necMultisyncDevice.setMinReplyTimeout(MIN_REPLY_TIMEOUT);
+		necMultisyncDevice.init();
+	}
+
+	private Map<String, String> getStatistics() throws Exception {
+		return ((ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0)).getStatistics();
+	}
+
+	/**
+	 * Each display of the chain is reported under its own prefix
+	 */
+	@Test
+	void testSweepReportsEachMonitor() throws Exception {
+		simulator = new NECMultisyncSimulator(0, 1, 2, 3);
+		simulator.getMonitor(2).setInput(18);
+		simulator.getMonitor(3).setPower(4);
+		init("1,2,3");
+		Map<String, String> statistics = getStatistics();
+		for (int monitor = 1; monitor <= 3; monitor++) {
+			Assert.assertEquals(NECMultisyncConstants.STATUS_ONLINE, statistics.get("Monitor" + monitor + "#Status"));
+			Assert.assertNotNull(statistics.get("Monitor" + monitor + "#ResponseTime(ms)"));
+		}
+		Assert.assertEquals("HDMI1", statistics.get("Monitor1#Input"));
+		Assert.assertEquals("HDMI2", statistics.get("Monitor2#Input"));
+		Assert.assertEquals("1", statistics.get("Monitor2#Power"));
+		Assert.assertEquals("0", statistics.get("Monitor3#Power"));
+	}
+
+	/**
+	 * Displays missing at the end of the chain are reported unreachable without inflating the reply timeout of the
+	 * displays that reply, and their own timeout doesn't keep growing from cycle to cycle
+	 */
+	@Test
+	void testDeadTailDoesNotInflateTimeouts() throws Exception {
+		simulator = new NECMultisyncSimulator(0, 1, 2);
+		init("1,2,3,4");
+		NECMultisyncRttEstimator rttEstimator = necMultisyncDevice.getRttEstimator();
+		for (int i = 0; i < 4; i++) {
+			Map<String, String> statistics = getStatistics();
+			Assert.assertEquals(NECMultisyncConstants.STATUS_ONLINE, statistics.get("Monitor1#Status"));
+			Assert.assertEquals(NECMultisyncConstants.STATUS_ONLINE, statistics.get("Monitor2#Status"));
+			Assert.assertEquals("1", statistics.get("Monitor2#Power"));
+			Assert.assertEquals(NECMultisyncConstants.STATUS_UNREACHABLE, statistics.get("Monitor3#Status"));
+			Assert.assertEquals(NECMultisyncConstants.STATUS_UNREACHABLE, statistics.get("Monitor4#Status"));
+			for (int monitor = 1; monitor <= 4; monitor++) {
+				Assert.assertEquals("Timeout of monitor " + monitor, MIN_REPLY_TIMEOUT, rttEstimator.getTimeout(monitor + 64));
+			}
+		}
+	}
+
+	/**
+	 * A group control is sent once to the ALL address, and applied by every display of the chain.
+	 * The broadcast frame comes from the frame cache and is the frame the encoder builds.
+	 */
+	@Test
+	void testGroupPowerIsBroadcast() throws Exception {
+		simulator = new NECMultisyncSimulator(0, 1, 2, 3);
+		init("1,2,3");
+		getStatistics();
+		long received = simulator.getReceivedFrames();
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(NECMultisyncConstants.GROUP_ALL_MONITORS + "Power");
+		controllableProperty.setValue("0");
+		necMultisyncDevice.controlProperty(controllableProperty);
+		//one command for the chain, each display is read back in the background
+		Assert.assertEquals(1, simulator.getReceivedFrames() - received);
+		for (int monitor = 1; monitor <= 3; monitor++) {
+			Assert.assertEquals(4, simulator.getMonitor(monitor).getPower());
+		}
+		Map<String, String> statistics = getStatistics();
+		for (int monitor = 1; monitor <= 3; monitor++) {
+			Assert.assertEquals("0", statistics.get("Monitor" + monitor + "#Power"));
+		}
+
+		byte[] frame = NECMultisyncFrameCache.getFrame(NECMultisyncConstants.MONITOR_ID_ALL, NECMultisyncConstants.MSG_TYPE_CMD, NECMultisyncConstants.CMD_SET_POWER,
+				NECMultisyncConstants.POWER_OFF);
+		Assert.assertArrayEquals(NECMultisyncUtils.buildSendString(NECMultisyncConstants.MONITOR_ID_ALL, NECMultisyncConstants.MSG_TYPE_CMD,
+				NECMultisyncConstants.CMD_SET_POWER, NECMultisyncConstants.POWER_OFF), frame);
+		Assert.assertSame(frame, NECMultisyncFrameCache.getFrame(NECMultisyncConstants.MONITOR_ID_ALL, NECMultisyncConstants.MSG_TYPE_CMD,
+				NECMultisyncConstants.CMD_SET_POWER, NECMultisyncConstants.POWER_OFF));
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.io.EOFException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NECMultisyncFrameReaderTest for unit test of the length-aware frame reader
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncFrameReaderTest {
+
+	/**
+	 * Input stream returning one TCP segment per read call
+	 */
+	private static class SegmentInputStream extends InputStream {
+		private final Deque<byte[]> segments = new ArrayDeque<>();
+
+		SegmentInputStream(byte[]... segments) {
+			this.segments.addAll(Arrays.asList(segments));
+		}
+
+		@Override
+		public int read() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) {
+			byte[] segment = segments.poll();
+			if (segment == null) {
+				return -1;
+			}
+			System.arraycopy(segment, 0, buffer, offset, segment.length);
+			return segment.length;
+		}
+	}
+
+	private static byte[] concat(byte[]... parts) {
+		int length = 0;
+		for (byte[] part : parts) {
+			length += part.length;
+		}
+		byte[] result = new byte[length];
+		int offset = 0;
+		for (byte[] part : parts) {
+			System.arraycopy(part, 0, result, offset, part.length);
+			offset += part.length;
+		}
+		return result;
+	}
+
+	@Test
+	void testPartialSegments() throws Exception {
+		byte[] reply = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "00027900FFFF0050");
+		NECMultisyncFrameReader reader = new NECMultisyncFrameReader(new SegmentInputStream(Arrays.copyOfRange(reply, 0, 3),
+				Arrays.copyOfRange(reply, 3, 12), Arrays.copyOfRange(reply, 12, reply.length)));
+		Assert.assertArrayEquals(reply, reader.readFrame());
+		Assert.assertEquals(0, reader.getBufferedBytes());
+	}
+
+	@Test
+	void testCoalescedSegments() throws Exception {
+		byte[] first = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "0200D60000040001");
+		byte[] second = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "A100");
+		NECMultisyncFrameReader reader = new NECMultisyncFrameReader(new SegmentInputStream(concat(first, second)));
+		Assert.assertArrayEquals(first, reader.readFrame());
+		Assert.assertArrayEquals(second, reader.readFrame());
+	}
+
+	@Test
+	void testCarriageReturnInPayload() throws Exception {
+		byte[] reply = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "00027900FFFF0050");
+		reply[16] = 0x0D;
+		NECMultisyncFrameReader reader = new NECMultisyncFrameReader(new SegmentInputStream(reply));
+		Assert.assertArrayEquals(reply, reader.readFrame());
+	}
+
+	@Test
+	void testResynchronizeOnGarbage() throws Exception {
+		byte[] reply = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "A100");
+		byte[] garbage = { 0x0D, 0x55, 0x01, 0x30, 0x30, 0x41, 0x42, 0x5A, 0x5A };
+		NECMultisyncFrameReader reader = new NECMultisyncFrameReader(new SegmentInputStream(garbage, reply));
+		Assert.assertArrayEquals(reply, reader.readFrame());
+		Assert.assertEquals(garbage.length, reader.getDiscardedBytes());
+	}
+
+	@Test
+	void testResynchronizeOnBrokenFrame() throws Exception {
+		byte[] reply = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "A100");
+		byte[] truncated = Arrays.copyOfRange(reply, 0, reply.length - 4);
+		byte[] noHeader = { 0x01, 0x30, 0x30, 0x41, 0x44, 0x30, 0x36, 0x7F };
+		NECMultisyncFrameReader reader = new NECMultisyncFrameReader(new SegmentInputStream(concat(truncated, reply), noHeader, reply));
+		Assert.assertArrayEquals(reply, reader.readFrame());
+		Assert.assertArrayEquals(reply, reader.readFrame());
+		Assert.assertEquals(truncated.length + noHeader.length, reader.getDiscardedBytes());
+		Assert.assertEquals(2, reader.getResyncCount());
+	}
+
+	@Test
+	void testClosedStream() {
+		byte[] reply = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "A100");
+		NECMultisyncFrameReader reader = new NECMultisyncFrameReader(new SegmentInputStream(Arrays.copyOfRange(reply, 0, 5)));
+		try {
+			reader.readFrame();
+			Assert.fail("EOFException expected");
+		} catch (EOFException e) {
+			Assert.assertEquals(5, reader.getBufferedBytes());
+		} catch (Exception e) {
+			Assert.fail("EOFException expected, got " + e);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NECMultisyncHistogramTest for unit test of {@link NECMultisyncHistogram}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncHistogramTest {
+
+	/**
+	 * Every value falls in a bucket whose upper bound is within 12.5% of it, buckets are ordered
+	 */
+	@Test
+	void testBucketPrecision() {
+		int previousIndex = 0;
+		for (long value = 0; value < 1000000; value += 1 + value / 100) {
+			int index = NECMultisyncHistogram.getIndex(value);
+			long highestValue = NECMultisyncHistogram.getHighestValue(index);
+			Assert.assertTrue(index >= previousIndex);
+			Assert.assertTrue(highestValue >= value);
+			Assert.assertTrue(highestValue - value <= value / 8);
+			previousIndex = index;
+		}
+		Assert.assertTrue(NECMultisyncHistogram.getIndex(Long.MAX_VALUE) >= 0);
+	}
+
+	/**
+	 * Percentiles of a uniform distribution are reported within the bucket precision
+	 */
+	@Test
+	void testPercentiles() {
+		NECMultisyncHistogram histogram = new NECMultisyncHistogram();
+		Assert.assertEquals(0, histogram.getPercentile(99));
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+		}
+		Assert.assertEquals(1000, histogram.getCount());
+		Assert.assertEquals(1000000, histogram.getMax());
+		long median = histogram.getPercentile(50);
+		Assert.assertTrue(median >= 500000 && median <= 500000 * 9 / 8);
+		long p99 = histogram.getPercentile(99);
+		Assert.assertTrue(p99 >= 990000 && p99 <= 1000000);
+
+		histogram.reset();
+		Assert.assertEquals(0, histogram.getCount());
+		Assert.assertEquals(0, histogram.getPercentile(50));
+	}
+}
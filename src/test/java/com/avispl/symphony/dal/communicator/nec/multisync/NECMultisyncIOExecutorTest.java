@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NECMultisyncIOExecutorTest for unit test of {@link NECMultisyncIOExecutor}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncIOExecutorTest {
+
+	/**
+	 * Fake socket whose read blocks until it is closed: like a socket read, it isn't unblocked by an interrupt
+	 */
+	private static class BlockingSocket implements Closeable {
+		private final CountDownLatch closed = new CountDownLatch(1);
+
+		int read() throws IOException {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+			while (closed.getCount() > 0 && System.nanoTime() < deadline) {
+				try {
+					closed.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+				} catch (InterruptedException e) {
+					//ignored, as by a blocking socket read
+				}
+			}
+			throw new SocketException("Socket closed");
+		}
+
+		@Override
+		public void close() {
+			closed.countDown();
+		}
+	}
+
+	/**
+	 * An operation completing within its deadline returns its result, its failure is thrown as is
+	 */
+	@Test
+	void testOperationWithinDeadline() throws Exception {
+		Assert.assertEquals("reply", NECMultisyncIOExecutor.execute(() -> "reply", null, 1, TimeUnit.SECONDS));
+		try {
+			NECMultisyncIOExecutor.execute(() -> {
+				throw new IOException("Connection refused");
+			}, null, 1, TimeUnit.SECONDS);
+			Assert.fail("The failure of the operation must be thrown");
+		} catch (IOException e) {
+			Assert.assertEquals("Connection refused", e.getMessage());
+		}
+	}
+
+	/**
+	 * A socket read blocked past the deadline is aborted by closing its socket: the caller gets a timeout at the
+	 * deadline, and the pool thread is released at once instead of waiting for the socket timeout
+	 */
+	@Test
+	void testDeadlineAbortsBlockingRead() throws Exception {
+		long cancelled = NECMultisyncIOExecutor.getCancelledOperationCount();
+		try (ServerSocket silentDisplay = new ServerSocket(0); Socket socket = new Socket("127.0.0.1", silentDisplay.getLocalPort())) {
+			socket.setSoTimeout((int) TimeUnit.SECONDS.toMillis(30));
+			CountDownLatch released = new CountDownLatch(1);
+			long startTime = System.nanoTime();
+			try {
+				NECMultisyncIOExecutor.execute(() -> {
+					try {
+						return socket.getInputStream().read();
+					} finally {
+						released.countDown();
+					}
+				}, socket, 200, TimeUnit.MILLISECONDS);
+				Assert.fail("The read must time out");
+			} catch (SocketTimeoutException e) {
+				//expected
+			}
+			Assert.assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(5));
+			Assert.assertTrue("The pool thread is still blocked on the read", released.await(5, TimeUnit.SECONDS));
+			Assert.assertTrue(socket.isClosed());
+		}
+		Assert.assertTrue(NECMultisyncIOExecutor.getCancelledOperationCount() > cancelled);
+	}
+
+	/**
+	 * An operation still running at its deadline is interrupted
+	 */
+	@Test
+	void testCancelledOperationIsInterrupted() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		try {
+			NECMultisyncIOExecutor.execute(() -> {
+				try {
+					Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+				} catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+				return null;
+			}, null, 100, TimeUnit.MILLISECONDS);
+			Assert.fail("The operation must time out");
+		} catch (SocketTimeoutException e) {
+			//expected
+		}
+		Assert.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Successive operations run on the threads already started, the pool doesn't grow with the number of operations
+	 */
+	@Test
+	void testThreadsAreReused() throws Exception {
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		for (int i = 0; i < 200; i++) {
+			NECMultisyncIOExecutor.execute(() -> threads.add(Thread.currentThread()), null, 1, TimeUnit.SECONDS);
+		}
+		Assert.assertTrue("Operations ran on " + threads.size() + " threads", threads.size() <= NECMultisyncConstants.IO_THREAD_POOL_SIZE);
+		Assert.assertTrue(NECMultisyncIOExecutor.getPoolSize() <= NECMultisyncConstants.IO_THREAD_POOL_SIZE);
+		threads.forEach(thread -> Assert.assertTrue(thread.isDaemon()));
+	}
+
+	/**
+	 * An operation starting while its deadline is being handled either never runs, or has its socket closed:
+	 * it never stays blocked past the deadline
+	 */
+	@Test
+	void testOperationStartingAtTheDeadlineIsReleased() throws Exception {
+		for (int i = 0; i < 300; i++) {
+			BlockingSocket socket = new BlockingSocket();
+			CountDownLatch entered = new CountDownLatch(1);
+			CountDownLatch released = new CountDownLatch(1);
+			try {
+				NECMultisyncIOExecutor.execute(() -> {
+					entered.countDown();
+					try {
+						return socket.read();
+					} finally {
+						released.countDown();
+					}
+				}, socket, i % 50, TimeUnit.MICROSECONDS);
+				Assert.fail("The read must time out");
+			} catch (SocketTimeoutException e) {
+				//expected
+			}
+			if (entered.await(100, TimeUnit.MILLISECONDS)) {
+				Assert.assertTrue("The pool thread is still blocked on the read", released.await(5, TimeUnit.SECONDS));
+			}
+		}
+	}
+
+	/**
+	 * A delayed operation waits for the I/O operations it submits, it runs on the refresh pool and not on the I/O pool
+	 */
+	@Test
+	void testDelayedOperationRunsOffTheIOPool() throws Exception {
+		CountDownLatch done = new CountDownLatch(1);
+		String[] threadName = new String[1];
+		NECMultisyncIOExecutor.schedule(() -> {
+			threadName[0] = Thread.currentThread().getName();
+			done.countDown();
+		}, () -> Assert.fail("The operation must not be rejected"), 10, TimeUnit.MILLISECONDS);
+		Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+		Assert.assertTrue(threadName[0], threadName[0].startsWith("NECMultisync-Refresh-"));
+	}
+}
@@ -0,0 +1,325 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+
+/**
+ * Fleet load harness: starts many {@link NECMultisyncDevice} instances in one JVM, each polling its own
+ * {@link NECMultisyncSimulator} on the loopback interface, and drives their statistics cycles at a Symphony-like cadence,
+ * each adapter at a fixed interval from a random offset, on a shared pool of polling threads.
+ * <p>
+ * The report is a JSON document, printed or written to a file, meant to be compared across versions: cycle latency
+ * percentiles, failed and partial cycles, live threads by pool, heap retained per adapter and allocation rate of the
+ * adapter and polling threads. The heap per adapter is measured after a forced GC once every adapter has completed
+ * a first cycle, the simulators excluded; it is an approximation.
+ * <pre>
+ * java -cp target/test-classes:target/classes com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncLoadHarness
+ *     [--devices=100] [--monitors=1] [--rtt=20] [--jitter=0] [--drop=0] [--interval=30000] [--duration=120] [--pollers=64]
+ *     [--report=file.json]
+ * </pre>
+ * --rtt is the network round trip time and --jitter the display processing time jitter, in milliseconds; --monitors is
+ * the number of displays daisy chained behind each simulated panel; --interval is in milliseconds and --duration in seconds.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncLoadHarness {
+
+	private static final Set<String> OPTIONS = new LinkedHashSet<>(Arrays.asList("devices", "monitors", "rtt", "jitter", "drop", "interval",
+			"duration", "pollers", "report"));
+	private static final String SIMULATOR_THREADS = "NECMultisync-Simulator";
+	private static final String POLLER_THREADS = "NECMultisync-Poller";
+
+	/**
+	 * Runs the harness, see the class documentation for the options
+	 *
+	 * @param args options as --name=value
+	 * @return Map report, values are numbers, strings or nested reports
+	 * @throws Exception if the simulators or the adapters can't be started
+	 */
+	static Map<String, Object> run(String... args) throws Exception {
+		Map<String, String> options = parseOptions(args);
+		int devices = Integer.parseInt(options.getOrDefault("devices", "100"));
+		int monitors = Integer.parseInt(options.getOrDefault("monitors", "1"));
+		int rtt = Integer.parseInt(options.getOrDefault("rtt", "20"));
+		int jitter = Integer.parseInt(options.getOrDefault("jitter", "0"));
+		double drop = Double.parseDouble(options.getOrDefault("drop", "0"));
+		int interval = Integer.parseInt(options.getOrDefault("interval", "30000"));
+		int duration = Integer.parseInt(options.getOrDefault("duration", "120"));
+		int pollers = Integer.parseInt(options.getOrDefault("pollers", "64"));
+
+		List<NECMultisyncSimulator> simulators = new ArrayList<>();
+		List<NECMultisyncDevice> adapters = new ArrayList<>();
+		AtomicInteger threadNumber = new AtomicInteger();
+		ScheduledExecutorService pollingExecutor = Executors.newScheduledThreadPool(pollers, runnable -> {
+			Thread thread = new Thread(runnable, POLLER_THREADS + "-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			int[] monitorIDs = NECMultisyncSimulator.parseMonitorIDs("1-" + monitors);
+			for (int i = 0; i < devices; i++) {
+				simulators.add(new NECMultisyncSimulator(0, monitorIDs).setLatency(0, jitter).setNetworkDelay(rtt));
+			}
+			long heapBefore = getUsedHeap();
+			for (NECMultisyncSimulator simulator : simulators) {
+				NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+				necMultisyncDevice.setHost("127.0.0.1");
+				necMultisyncDevice.setPort(simulator.getPort());
+				if (monitors > 1) {
+					necMultisyncDevice.setMonitorIDs("1-" + monitors);
+				}
+				necMultisyncDevice.init();
+				adapters.add(necMultisyncDevice);
+			}
+			List<Callable<List<Statistics>>> firstCycles = new ArrayList<>();
+			for (NECMultisyncDevice necMultisyncDevice : adapters) {
+				firstCycles.add(necMultisyncDevice::getMultipleStatistics);
+			}
+			pollingExecutor.invokeAll(firstCycles);
+			long heapPerDevice = (getUsedHeap() - heapBefore) / Math.max(1, devices);
+			for (NECMultisyncSimulator simulator : simulators) {
+				simulator.setDropRate(drop);
+			}
+
+			NECMultisyncHistogram cycleTimes = new NECMultisyncHistogram();
+			AtomicLong partialCycles = new AtomicLong();
+			Map<String, AtomicLong> failures = new ConcurrentHashMap<>();
+			Map<Long, Long> allocatedBefore = getAllocatedBytes();
+			long startTime = System.nanoTime();
+			for (NECMultisyncDevice necMultisyncDevice : adapters) {
+				pollingExecutor.scheduleAtFixedRate(() -> poll(necMultisyncDevice, cycleTimes, partialCycles, failures),
+						ThreadLocalRandom.current().nextInt(Math.max(1, interval)), interval, TimeUnit.MILLISECONDS);
+			}
+			int peakThreads = 0;
+			while (System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(duration)) {
+				Thread.sleep(Math.min(1000, TimeUnit.SECONDS.toMillis(duration)));
+				peakThreads = Math.max(peakThreads, ManagementFactory.getThreadMXBean().getThreadCount());
+			}
+			Map<String, Integer> threads = countThreads();
+			Map<Long, Long> allocatedAfter = getAllocatedBytes();
+			double elapsed = (System.nanoTime() - startTime) / (double) TimeUnit.SECONDS.toNanos(1);
+			//no cycle starts anymore, the cycles in flight complete and are counted: none is interrupted
+			pollingExecutor.shutdown();
+			if (!pollingExecutor.awaitTermination(Math.max(interval, 60000), TimeUnit.MILLISECONDS)) {
+				throw new IllegalStateException("Statistics cycles still running after the end of the run");
+			}
+
+			Map<String, Object> report = new LinkedHashMap<>();
+			report.put("version", getVersion());
+			report.put("devices", devices);
+			report.put("monitorsPerDevice", monitors);
+			report.put("rttMs", rtt);
+			report.put("jitterMs", jitter);
+			report.put("dropRate", drop);
+			report.put("intervalMs", interval);
+			report.put("durationS", duration);
+			report.put("pollerThreads", pollers);
+			report.put("cycles", cycleTimes.getCount());
+			long failedCycles = 0;
+			Map<String, Object> failuresByType = new LinkedHashMap<>();
+			for (Map.Entry<String, AtomicLong> failure : failures.entrySet()) {
+				failedCycles += failure.getValue().get();
+				failuresByType.put(failure.getKey(), failure.getValue().get());
+			}
+			report.put("failedCycles", failedCycles);
+			report.put("partialCycles", partialCycles.get());
+			report.put("failures", failuresByType);
+			Map<String, Object> cycleLatency = new LinkedHashMap<>();
+			cycleLatency.put("p50", cycleTimes.getPercentile(50));
+			cycleLatency.put("p90", cycleTimes.getPercentile(90));
+			cycleLatency.put("p99", cycleTimes.getPercentile(99));
+			cycleLatency.put("max", cycleTimes.getMax());
+			report.put("cycleLatencyUs", cycleLatency);
+			Map<String, Object> threadReport = new LinkedHashMap<>(threads);
+			threadReport.put("peakLive", peakThreads);
+			report.put("threads", threadReport);
+			report.put("heapPerDeviceBytes", heapPerDevice);
+			report.put("allocationRateBytesPerSecond", allocatedBefore == null ? -1 : Math.round(getAllocatedDelta(allocatedBefore, allocatedAfter) / elapsed));
+			return report;
+		} finally {
+			pollingExecutor.shutdownNow();
+			for (NECMultisyncDevice necMultisyncDevice : adapters) {
+				necMultisyncDevice.destroy();
+			}
+			for (NECMultisyncSimulator simulator : simulators) {
+				simulator.close();
+			}
+		}
+	}
+
+	/**
+	 * Runs one statistics cycle and records its outcome
+	 */
+	private static void poll(NECMultisyncDevice necMultisyncDevice, NECMultisyncHistogram cycleTimes, AtomicLong partialCycles,
+			Map<String, AtomicLong> failures) {
+		long startTime = System.nanoTime();
+		try {
+			List<Statistics> statistics = necMultisyncDevice.getMultipleStatistics();
+			cycleTimes.record(System.nanoTime() - startTime);
+			Map<String, String> properties = ((ExtendedStatistics) statistics.get(0)).getStatistics();
+			if (properties.keySet().stream().anyMatch(name -> name.endsWith(NECMultisyncConstants.REFRESH_ERROR))) {
+				partialCycles.incrementAndGet();
+			}
+		} catch (Exception e) {
+			cycleTimes.record(System.nanoTime() - startTime);
+			failures.computeIfAbsent(e.getClass().getSimpleName(), type -> new AtomicLong()).incrementAndGet();
+		}
+	}
+
+	private static Map<String, String> parseOptions(String... args) {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (!arg.startsWith("--") || separator < 0 || !OPTIONS.contains(arg.substring(2, separator))) {
+				throw new IllegalArgumentException("Invalid option " + arg + ", expected --name=value with name one of " + OPTIONS);
+			}
+			options.put(arg.substring(2, separator), arg.substring(separator + 1).trim());
+		}
+		return options;
+	}
+
+	private static long getUsedHeap() throws InterruptedException {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+			Thread.sleep(100);
+		}
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	/**
+	 * Counts the live threads by pool
+	 *
+	 * @return Map number of threads of the simulators, the polling pool, the adapters and in total
+	 */
+	private static Map<String, Integer> countThreads() {
+		int simulator = 0;
+		int poller = 0;
+		int adapter = 0;
+		Set<Thread> threads = Thread.getAllStackTraces().keySet();
+		for (Thread thread : threads) {
+			if (thread.getName().startsWith(SIMULATOR_THREADS)) {
+				simulator++;
+			} else if (thread.getName().startsWith(POLLER_THREADS)) {
+				poller++;
+			} else if (thread.getName().startsWith("NECMultisync-")) {
+				adapter++;
+			}
+		}
+		Map<String, Integer> count = new LinkedHashMap<>();
+		count.put("live", threads.size());
+		count.put("adapter", adapter);
+		count.put("poller", poller);
+		count.put("simulator", simulator);
+		return count;
+	}
+
+	/**
+	 * Retrieves the bytes allocated by each live thread but the simulator threads
+	 *
+	 * @return Map allocated bytes by thread ID, or null if the JVM doesn't measure them
+	 */
+	private static Map<Long, Long> getAllocatedBytes() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+			return null;
+		}
+		Map<Long, Long> allocated = new HashMap<>();
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (!thread.getName().startsWith(SIMULATOR_THREADS)) {
+				allocated.put(thread.getId(), ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(thread.getId()));
+			}
+		}
+		return allocated;
+	}
+
+	private static long getAllocatedDelta(Map<Long, Long> before, Map<Long, Long> after) {
+		long delta = 0;
+		for (Map.Entry<Long, Long> thread : after.entrySet()) {
+			delta += Math.max(0, thread.getValue() - before.getOrDefault(thread.getKey(), 0L));
+		}
+		return delta;
+	}
+
+	/**
+	 * Retrieves the version of the adapter under test from the git.properties generated at build time
+	 */
+	private static String getVersion() throws IOException {
+		Properties properties = new Properties();
+		try (InputStream inputStream = NECMultisyncLoadHarness.class.getResourceAsStream("/git.properties")) {
+			if (inputStream != null) {
+				properties.load(inputStream);
+			}
+		}
+		return properties.getProperty("git.build.version", "unknown") + "@" + properties.getProperty("git.commit.id.full", "unknown");
+	}
+
+	/**
+	 * Serializes a report to JSON
+	 *
+	 * @param value report, number or string
+	 * @return String JSON document
+	 */
+	static String toJson(Object value) {
+		if (value instanceof Map) {
+			StringBuilder json = new StringBuilder("{");
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				if (json.length() > 1) {
+					json.append(", ");
+				}
+				json.append(toJson(String.valueOf(entry.getKey()))).append(": ").append(toJson(entry.getValue()));
+			}
+			return json.append('}').toString();
+		}
+		if (value instanceof Number) {
+			return value.toString();
+		}
+		return '"' + String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+	}
+
+	/**
+	 * Runs the harness and prints the report, or writes it to the file given by --report
+	 *
+	 * @param args options as --name=value, see the class documentation
+	 */
+	public static void main(String[] args) throws Exception {
+		String report = toJson(run(args));
+		String reportFile = parseOptions(args).get("report");
+		if (reportFile == null) {
+			System.out.println(report);
+		} else {
+			Files.write(Paths.get(reportFile), (report + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+		}
+		System.exit(0);
+	}
+}
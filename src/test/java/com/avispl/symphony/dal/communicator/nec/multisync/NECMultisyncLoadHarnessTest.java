@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NECMultisyncLoadHarnessTest for unit test of {@link NECMultisyncLoadHarness}, run with a small fleet. Tagged "load",
+ * it is run with: mvn -Pload test
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+@Tag("load")
+public class NECMultisyncLoadHarnessTest {
+
+	/**
+	 * Every adapter is polled at the given cadence without failure, the report holds the measured figures
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testSmallFleet() throws Exception {
+		Map<String, Object> report = NECMultisyncLoadHarness.run("--devices=20", "--rtt=5", "--interval=500", "--duration=3", "--pollers=8");
+		String json = NECMultisyncLoadHarness.toJson(report);
+		Assert.assertTrue((Long) report.get("cycles") >= 20 * 4);
+		Assert.assertEquals(0L, report.get("failedCycles"));
+		Assert.assertEquals(0L, report.get("partialCycles"));
+		Map<String, Object> cycleLatency = (Map<String, Object>) report.get("cycleLatencyUs");
+		Assert.assertTrue((Long) cycleLatency.get("p50") >= 5000);
+		Assert.assertTrue((Long) cycleLatency.get("p99") >= (Long) cycleLatency.get("p50"));
+		Assert.assertEquals(8, ((Map<String, Object>) report.get("threads")).get("poller"));
+		Assert.assertTrue(json.startsWith("{\"version\": ") && json.contains("\"cycleLatencyUs\": {\"p50\": "));
+	}
+}
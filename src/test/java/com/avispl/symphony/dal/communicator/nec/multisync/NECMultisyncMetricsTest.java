@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NECMultisyncMetricsTest for unit test of the MBean of {@link NECMultisyncDevice}, run against {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncMetricsTest {
+
+	/**
+	 * The MBean follows the adapter lifecycle and exposes its live metrics and operations through the MBean server
+	 */
+	@Test
+	void testMBeanLifecycle() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1, 2);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		ObjectName name = new ObjectName("com.avispl.symphony.dal.communicator.nec.multisync:type=NECMultisyncDevice,host=\"127.0.0.1\",port="
+				+ simulator.getPort() + ",monitorID=\"1-2\"");
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.setMonitorIDs("1-2");
+			necMultisyncDevice.setJmxMetrics(true);
+			necMultisyncDevice.init();
+			Assert.assertEquals(name, necMultisyncDevice.getMBean().getObjectName());
+			Assert.assertTrue(server.isRegistered(name));
+
+			necMultisyncDevice.getMultipleStatistics();
+			Assert.assertEquals(1L, server.getAttribute(name, "CycleCount"));
+			Assert.assertEquals(simulator.getPort(), server.getAttribute(name, "Port"));
+			Assert.assertEquals("CLOSED", server.getAttribute(name, "CircuitState"));
+			Assert.assertEquals(0, server.getAttribute(name, "QueueDepth"));
+			Assert.assertTrue((Long) server.getAttribute(name, "CycleTimeP99") > 0);
+			Assert.assertEquals(simulator.getReceivedFrames(), server.getAttribute(name, "FramesSent"));
+			Assert.assertEquals(simulator.getSentFrames(), server.getAttribute(name, "FramesReceived"));
+			Assert.assertNull(server.getAttribute(name, "LastError"));
+
+			server.invoke(name, "forceRefresh", null, null);
+			long startTime = System.nanoTime();
+			while ((Long) server.getAttribute(name, "CycleCount") < 2 && System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(5)) {
+				Thread.sleep(20);
+			}
+			Assert.assertEquals(2L, server.getAttribute(name, "CycleCount"));
+
+			server.invoke(name, "resetCounters", null, null);
+			Assert.assertEquals(0L, server.getAttribute(name, "CycleCount"));
+			Assert.assertEquals(0L, server.getAttribute(name, "FramesSent"));
+
+			simulator.close();
+			try {
+				necMultisyncDevice.getMultipleStatistics();
+			} catch (Exception e) {
+				//the display is gone, the failure is recorded
+			}
+			Assert.assertEquals(1L, server.getAttribute(name, "FailedCycleCount"));
+			Assert.assertNotNull(server.getAttribute(name, "LastError"));
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+		Assert.assertFalse(server.isRegistered(name));
+		Assert.assertNull(necMultisyncDevice.getMBean());
+	}
+
+	/**
+	 * Without the setting, no MBean is registered
+	 */
+	@Test
+	void testMBeanDisabledByDefault() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.init();
+			necMultisyncDevice.getMultipleStatistics();
+			Assert.assertNull(necMultisyncDevice.getMBean());
+			Assert.assertTrue(ManagementFactory.getPlatformMBeanServer().queryNames(
+					new ObjectName("com.avispl.symphony.dal.communicator.nec.multisync:*"), null).isEmpty());
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+
+	/**
+	 * Adapters reaching the same displays of a host through different ports each register their own MBean
+	 */
+	@Test
+	void testMBeanPerPort() throws Exception {
+		NECMultisyncSimulator firstSimulator = new NECMultisyncSimulator(0, 1);
+		NECMultisyncSimulator secondSimulator = new NECMultisyncSimulator(0, 1);
+		NECMultisyncDevice firstDevice = new NECMultisyncDevice();
+		NECMultisyncDevice secondDevice = new NECMultisyncDevice();
+		try {
+			firstDevice.setHost("127.0.0.1");
+			firstDevice.setPort(firstSimulator.getPort());
+			firstDevice.setJmxMetrics(true);
+			firstDevice.init();
+			secondDevice.setHost("127.0.0.1");
+			secondDevice.setPort(secondSimulator.getPort());
+			secondDevice.setJmxMetrics(true);
+			secondDevice.init();
+			Assert.assertNotNull(firstDevice.getMBean());
+			Assert.assertNotNull(secondDevice.getMBean());
+			Assert.assertNotEquals(firstDevice.getMBean().getObjectName(), secondDevice.getMBean().getObjectName());
+			Assert.assertEquals(2, ManagementFactory.getPlatformMBeanServer().queryNames(
+					new ObjectName("com.avispl.symphony.dal.communicator.nec.multisync:*"), null).size());
+		} finally {
+			firstDevice.destroy();
+			secondDevice.destroy();
+			firstSimulator.close();
+			secondSimulator.close();
+		}
+	}
+}
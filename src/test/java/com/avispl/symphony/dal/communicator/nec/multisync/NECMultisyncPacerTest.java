@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * NECMultisyncPacerTest for unit test of {@link NECMultisyncPacer}, and of the pacing of {@link NECMultisyncDevice}
+ * run against {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncPacerTest {
+	private static final byte[] POWER = NECMultisyncQuery.POWER.getFrame(0x41);
+	private static final byte[] INPUT = NECMultisyncQuery.INPUT.getFrame(0x41);
+	private static final byte[] TEMPERATURE = NECMultisyncQuery.TEMPERATURE.getFrame(0x41);
+	private static final byte[] POWER_REPLY = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "0200D60000040001");
+	private static final byte[] INPUT_REPLY = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "00006000008800110");
+	private static final byte[] REFUSED_REPLY = NECMultisyncResponseDecoderTest.buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "0100600000000000");
+
+	private static void exchange(NECMultisyncPacer pacer, byte[] frame, byte[] reply) throws Exception {
+		pacer.awaitTurn();
+		pacer.onSent();
+		pacer.onReply(frame, reply);
+	}
+
+	/**
+	 * Exchanges a frame with a display refusing any frame sent less than 20 ms after its previous reply
+	 *
+	 * @return time of the reply
+	 */
+	private static long exchangeRushed(NECMultisyncPacer pacer, byte[] frame, byte[] reply, long lastReply) throws Exception {
+		pacer.awaitTurn();
+		pacer.onSent();
+		boolean rushed = System.nanoTime() - lastReply < TimeUnit.MILLISECONDS.toNanos(20);
+		pacer.onReply(frame, rushed ? REFUSED_REPLY : reply);
+		return System.nanoTime();
+	}
+
+	/**
+	 * Raises the gap of a pacer to a display refusing frames sent less than 20 ms after its previous reply
+	 */
+	private static void congest(NECMultisyncPacer pacer) throws Exception {
+		long lastReply = System.nanoTime() - NECMultisyncPacer.MAX_GAP;
+		for (int i = 0; i < 64; i++) {
+			lastReply = exchangeRushed(pacer, POWER, POWER_REPLY, lastReply);
+			lastReply = exchangeRushed(pacer, INPUT, INPUT_REPLY, lastReply);
+		}
+	}
+
+	/**
+	 * Commands refused when sent back-to-back lengthen the gap, which doesn't shrink back to a gap seen failing
+	 * before the display has accepted the slower rate for a while
+	 */
+	@Test
+	void testGapGrowsWhenCommandsAreRefused() throws Exception {
+		NECMultisyncPacer pacer = new NECMultisyncPacer();
+		congest(pacer);
+		Assert.assertTrue(pacer.getGap() >= TimeUnit.MILLISECONDS.toNanos(20));
+		Assert.assertTrue(pacer.getGap() <= TimeUnit.MILLISECONDS.toNanos(40));
+		Assert.assertTrue(pacer.getFailureCount() > 0);
+		for (int i = 0; i < 256; i++) {
+			exchange(pacer, POWER, POWER_REPLY);
+		}
+		Assert.assertTrue(pacer.getGap() >= TimeUnit.MILLISECONDS.toNanos(20));
+	}
+
+	/**
+	 * A command refused by a rested display is not a pacing issue, the gap is left untouched
+	 */
+	@Test
+	void testUnsupportedCommandDoesNotSlowDown() throws Exception {
+		NECMultisyncPacer pacer = new NECMultisyncPacer();
+		Thread.sleep(TimeUnit.NANOSECONDS.toMillis(NECMultisyncPacer.MAX_GAP));
+		exchange(pacer, TEMPERATURE, REFUSED_REPLY);
+		for (int i = 0; i < 64; i++) {
+			exchange(pacer, POWER, POWER_REPLY);
+			exchange(pacer, TEMPERATURE, REFUSED_REPLY);
+		}
+		Assert.assertEquals(0, pacer.getGap());
+		Assert.assertEquals(0, pacer.getFailureCount());
+	}
+
+	/**
+	 * A display of the chain that stopped replying is accounted for once, the gap is left untouched
+	 */
+	@Test
+	void testSilentDisplayDoesNotSlowDown() throws Exception {
+		NECMultisyncPacer pacer = new NECMultisyncPacer();
+		exchange(pacer, INPUT, INPUT_REPLY);
+		for (int i = 0; i < 64; i++) {
+			exchange(pacer, POWER, POWER_REPLY);
+			pacer.awaitTurn();
+			pacer.onSent();
+			pacer.onTimeout(INPUT);
+		}
+		Assert.assertEquals(0, pacer.getGap());
+		Assert.assertEquals(1, pacer.getFailureCount());
+	}
+
+	/**
+	 * The configured interval is always kept between two frames
+	 */
+	@Test
+	void testMinimumGapIsEnforced() throws Exception {
+		NECMultisyncPacer pacer = new NECMultisyncPacer();
+		pacer.setMinimumGap(50);
+		exchange(pacer, POWER, POWER_REPLY);
+		long startTime = System.nanoTime();
+		exchange(pacer, POWER, POWER_REPLY);
+		Assert.assertTrue(System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos(50));
+	}
+
+	/**
+	 * A display refusing commands sent less than 30 ms after its previous reply: the adapter settles on a gap the
+	 * display accepts, and statistics cycles complete again
+	 */
+	@Test
+	void testDeviceSettlesOnTheDisplayTiming() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		simulator.setCommandGap(30);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+			necMultisyncDevice.init();
+			int failures = 0;
+			int successes = 0;
+			for (int i = 0; i < 200 && successes < 20; i++) {
+				try {
+					//refused queries are reported as property errors, the cycle is complete when none failed
+					Map<String, String> statistics = ((ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0)).getStatistics();
+					if (statistics.keySet().stream().anyMatch(name -> name.endsWith(NECMultisyncConstants.REFRESH_ERROR))) {
+						failures++;
+						successes = 0;
+					} else {
+						successes++;
+					}
+				} catch (ResourceNotReachableException e) {
+					failures++;
+					successes = 0;
+				}
+			}
+			Assert.assertTrue(failures > 0);
+			Assert.assertEquals(20, successes);
+			long gap = necMultisyncDevice.getPacer().getGap();
+			Assert.assertTrue(gap >= TimeUnit.MILLISECONDS.toNanos(30));
+			Assert.assertTrue(gap <= TimeUnit.MILLISECONDS.toNanos(120));
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+
+	/**
+	 * Once the display accepted the slower rate for a while, faster rates are tried again
+	 */
+	@Test
+	void testFloorDecaysAfterCleanWindows() throws Exception {
+		NECMultisyncPacer pacer = new NECMultisyncPacer();
+		congest(pacer);
+		Assert.assertTrue(pacer.getGap() >= TimeUnit.MILLISECONDS.toNanos(20));
+		for (int i = 0; i < 4096; i++) {
+			//replies without waiting for the gap, only the outcome of each frame matters here
+			pacer.onSent();
+			pacer.onReply(POWER, POWER_REPLY);
+		}
+		Assert.assertEquals(0, pacer.getGap());
+	}
+
+	/**
+	 * An opcode the model doesn't support is refused whatever the rest of the display, while other frames are
+	 * accepted back-to-back: it is classified as unsupported and doesn't slow the display down
+	 */
+	@Test
+	void testUnsupportedOpcodeIsNotCongestion() throws Exception {
+		NECMultisyncPacer pacer = new NECMultisyncPacer();
+		for (int i = 0; i < 64; i++) {
+			exchange(pacer, POWER, POWER_REPLY);
+			exchange(pacer, INPUT, INPUT_REPLY);
+			exchange(pacer, TEMPERATURE, REFUSED_REPLY);
+		}
+		Assert.assertEquals(0, pacer.getGap());
+		Assert.assertEquals(0, pacer.getFailureCount());
+		Assert.assertTrue(pacer.isUnsupported(TEMPERATURE));
+		Assert.assertFalse(pacer.isUnsupported(INPUT));
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * NECMultisyncPipeliningTest for unit test of the pipelined statistics queries of {@link NECMultisyncDevice},
+ * run against {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncPipeliningTest {
+	private NECMultisyncSimulator simulator;
+	private NECMultisyncDevice necMultisyncDevice;
+
+	@BeforeEach()
+	public void setUp() throws Exception {
+		simulator = new NECMultisyncSimulator(0, 1);
+		simulator.setLatency(50, 0);
+		necMultisyncDevice = new NECMultisyncDevice();
+		necMultisyncDevice.setHost("127.0.0.1");
+		necMultisyncDevice.setPort(simulator.getPort());
+		necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+		necMultisyncDevice.setPipelineDepth(4);
+		necMultisyncDevice.setPipelineRetryInterval(2);
+		necMultisyncDevice.init();
+	}
+
+	@AfterEach()
+	public void destroy() throws Exception {
+		necMultisyncDevice.destroy();
+		simulator.close();
+	}
+
+	private Map<String, String> getStatistics() throws Exception {
+		Map<String, String> statistics = ((ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0)).getStatistics();
+		Assert.assertEquals("1", statistics.get("Power"));
+		statistics.keySet().forEach(key -> Assert.assertFalse(key, key.endsWith(NECMultisyncConstants.REFRESH_ERROR)));
+		return statistics;
+	}
+
+	/**
+	 * Queries of a cycle are sent back-to-back, without waiting for each reply
+	 */
+	@Test
+	void testQueriesArePipelined() throws Exception {
+		getStatistics();
+		long queued = simulator.getQueuedFrames();
+		Assert.assertTrue(queued > 0);
+		getStatistics();
+		Assert.assertTrue(simulator.getQueuedFrames() > queued);
+	}
+
+	/**
+	 * A display dropping pipelined queries is queried sequentially in the same cycle, then for the retry interval.
+	 * The configured depth is kept: pipelining is tried again after the interval, and kept once the display accepts it.
+	 */
+	@Test
+	void testSequentialFallbackIsRetried() throws Exception {
+		simulator.setPipelining(false);
+		getStatistics();
+		Assert.assertEquals(4, necMultisyncDevice.getPipelineDepth());
+		long queued = simulator.getQueuedFrames();
+		Assert.assertTrue(queued > 0);
+
+		getStatistics();
+		Assert.assertEquals(queued, simulator.getQueuedFrames());
+
+		simulator.setPipelining(true);
+		Thread.sleep(2100);
+		getStatistics();
+		queued = simulator.getQueuedFrames();
+		getStatistics();
+		Assert.assertTrue(simulator.getQueuedFrames() > queued);
+		Assert.assertEquals(4, necMultisyncDevice.getPipelineDepth());
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * NECMultisyncRefreshIntervalTest for unit test of the per property refresh of {@link NECMultisyncDevice}, run against
+ * {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncRefreshIntervalTest {
+	private NECMultisyncSimulator simulator;
+	private NECMultisyncDevice necMultisyncDevice;
+
+	@BeforeEach()
+	public void setUp() throws Exception {
+		simulator = new NECMultisyncSimulator(0, 1);
+		necMultisyncDevice = new NECMultisyncDevice();
+		necMultisyncDevice.setHost("127.0.0.1");
+		necMultisyncDevice.setPort(simulator.getPort());
+		necMultisyncDevice.setMonitorIDs("1");
+	}
+
+	@AfterEach()
+	public void destroy() throws Exception {
+		necMultisyncDevice.destroy();
+		simulator.close();
+	}
+
+	private Map<String, String> getStatistics() throws Exception {
+		return ((ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0)).getStatistics();
+	}
+
+	/**
+	 * Properties within their refresh interval are reported from the cache and not queried
+	 */
+	@Test
+	void testCachedPropertiesAreNotQueried() throws Exception {
+		necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:600,Temperature:600");
+		necMultisyncDevice.init();
+		long received = simulator.getReceivedFrames();
+		Map<String, String> statistics = getStatistics();
+		//power, input, diagnosis, sensor select and temperature
+		Assert.assertEquals(5, simulator.getReceivedFrames() - received);
+		Assert.assertEquals("35", statistics.get("Temperature(C)"));
+		Assert.assertEquals("Normal", statistics.get("Diagnosis"));
+
+		simulator.getMonitor(1).setTemperature(50).setDiagnosis(0x80).setInput(18);
+		for (int i = 0; i < 3; i++) {
+			received = simulator.getReceivedFrames();
+			statistics = getStatistics();
+			//power and input only
+			Assert.assertEquals(2, simulator.getReceivedFrames() - received);
+			Assert.assertEquals("HDMI2", statistics.get("Input"));
+			Assert.assertEquals("35", statistics.get("Temperature(C)"));
+			Assert.assertEquals("Normal", statistics.get("Diagnosis"));
+		}
+	}
+
+	/**
+	 * A display in standby is only sent the power status heartbeat, the full set of queries resumes once it is powered on
+	 */
+	@Test
+	void testStandbyDisplayGetsHeartbeatOnly() throws Exception {
+		necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:600,Temperature:0");
+		necMultisyncDevice.setStandbyRefreshInterval(0);
+		necMultisyncDevice.init();
+		getStatistics();
+		simulator.getMonitor(1).setPower(4);
+		Assert.assertEquals("0", getStatistics().get("Power"));
+		for (int i = 0; i < 3; i++) {
+			long received = simulator.getReceivedFrames();
+			Assert.assertEquals("0", getStatistics().get("Power"));
+			Assert.assertEquals(1, simulator.getReceivedFrames() - received);
+		}
+
+		simulator.getMonitor(1).setPower(1).setTemperature(50);
+		long received = simulator.getReceivedFrames();
+		Map<String, String> statistics = getStatistics();
+		//power, input, sensor select and temperature
+		Assert.assertEquals(4, simulator.getReceivedFrames() - received);
+		Assert.assertEquals("1", statistics.get("Power"));
+		Assert.assertEquals("50", statistics.get("Temperature(C)"));
+	}
+
+	/**
+	 * The heartbeat of a display in standby follows the standby refresh interval
+	 */
+	@Test
+	void testStandbyHeartbeatInterval() throws Exception {
+		necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:600,Temperature:0");
+		necMultisyncDevice.setStandbyRefreshInterval(600);
+		necMultisyncDevice.init();
+		simulator.getMonitor(1).setPower(4);
+		Assert.assertEquals("0", getStatistics().get("Power"));
+		for (int i = 0; i < 3; i++) {
+			long received = simulator.getReceivedFrames();
+			Assert.assertEquals("0", getStatistics().get("Power"));
+			Assert.assertEquals(0, simulator.getReceivedFrames() - received);
+		}
+	}
+
+	/**
+	 * The temperature sensor is selected once per connection, and again once the connection is reopened
+	 */
+	@Test
+	void testSensorIsSelectedOncePerConnection() throws Exception {
+		necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+		necMultisyncDevice.init();
+		long received = simulator.getReceivedFrames();
+		getStatistics();
+		Assert.assertEquals(1, simulator.getMonitor(1).getSelectedSensor());
+		//power, input, diagnosis, sensor select and temperature
+		Assert.assertEquals(5, simulator.getReceivedFrames() - received);
+		for (int i = 0; i < 3; i++) {
+			received = simulator.getReceivedFrames();
+			getStatistics();
+			Assert.assertEquals(4, simulator.getReceivedFrames() - received);
+		}
+
+		necMultisyncDevice.disconnect();
+		received = simulator.getReceivedFrames();
+		getStatistics();
+		Assert.assertEquals(5, simulator.getReceivedFrames() - received);
+		received = simulator.getReceivedFrames();
+		getStatistics();
+		Assert.assertEquals(4, simulator.getReceivedFrames() - received);
+	}
+}
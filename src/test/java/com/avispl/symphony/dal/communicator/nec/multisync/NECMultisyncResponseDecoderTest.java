@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.diagResultNames;
+import com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.inputNames;
+import com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.powerStatus;
+import com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.responseValues;
+
+/**
+ * NECMultisyncResponseDecoderTest for unit test of the NEC reply decoder
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncResponseDecoderTest {
+
+	/**
+	 * Builds a reply frame sent by monitor 1 to the controller
+	 *
+	 * @param messageType type of the reply
+	 * @param message message between STX and ETX, as ASCII characters
+	 * @return byte[] reply frame with a valid check code
+	 */
+	static byte[] buildReply(byte messageType, String message) {
+		byte[] body = message.getBytes(StandardCharsets.US_ASCII);
+		byte[] reply = new byte[body.length + 11];
+		int size = body.length + 2;
+		reply[0] = 0x01;
+		reply[1] = 0x30;
+		reply[2] = 0x30;
+		reply[3] = 0x41;
+		reply[4] = messageType;
+		reply[5] = (byte) Character.toUpperCase(Character.forDigit(size >> 4, 16));
+		reply[6] = (byte) Character.toUpperCase(Character.forDigit(size & 0x0F, 16));
+		reply[7] = 0x02;
+		System.arraycopy(body, 0, reply, 8, body.length);
+		reply[reply.length - 3] = 0x03;
+		reply[reply.length - 2] = NECMultisyncUtils.xor(Arrays.copyOfRange(reply, 1, reply.length - 2));
+		reply[reply.length - 1] = 0x0D;
+		return reply;
+	}
+
+	@Test
+	void testPowerStatusReply() {
+		byte[] reply = buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "0200D6000004" + "0004");
+		Assert.assertEquals(responseValues.POWER_STATUS_READ, NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length));
+		Assert.assertEquals(powerStatus.OFF, NECMultisyncResponseDecoder.getPowerStatus(reply, 0));
+	}
+
+	@Test
+	void testPowerControlReply() {
+		byte[] reply = buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "00C203D60001");
+		Assert.assertEquals(responseValues.POWER_CONTROL, NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length));
+	}
+
+	@Test
+	void testSelfDiagReply() {
+		byte[] reply = buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "A181");
+		Assert.assertEquals(responseValues.SELF_DIAG, NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length));
+		Assert.assertEquals(diagResultNames.FAN2_ABNORMALITY, NECMultisyncResponseDecoder.getDiagResult(reply, 0));
+	}
+
+	@Test
+	void testInputReply() {
+		byte[] reply = buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "00006000008800" + "12");
+		Assert.assertEquals(responseValues.INPUT_STATUS_READ, NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length));
+		Assert.assertEquals(inputNames.HDMI2, NECMultisyncResponseDecoder.getInput(reply, 0));
+	}
+
+	@Test
+	void testTemperatureReply() {
+		byte[] reply = buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "000279" + "00FFFF" + "0050");
+		Assert.assertEquals(responseValues.GET_TEMPERATURE, NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length));
+		Assert.assertEquals(40, NECMultisyncResponseDecoder.getTemperature(reply, 0));
+	}
+
+	@Test
+	void testReplyAtOffset() {
+		byte[] reply = buildReply(NECMultisyncConstants.MSG_TYPE_SET_REPLY, "00027800000A0001");
+		byte[] buffer = new byte[reply.length + 7];
+		System.arraycopy(reply, 0, buffer, 7, reply.length);
+		Assert.assertEquals(responseValues.SENSOR_SELECT, NECMultisyncResponseDecoder.getReplyType(buffer, 7, reply.length));
+	}
+
+	@Test
+	void testRejectedReplies() {
+		byte[] unsupported = buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "01C203D60001");
+		Assert.assertEquals(responseValues.UNSUPPORTED, NECMultisyncResponseDecoder.getReplyType(unsupported, 0, unsupported.length));
+		byte[] getError = buildReply(NECMultisyncConstants.MSG_TYPE_GET_REPLY, "010279" + "00FFFF" + "0050");
+		Assert.assertEquals(responseValues.RESULT_ERROR, NECMultisyncResponseDecoder.getReplyType(getError, 0, getError.length));
+		byte[] corrupted = buildReply(NECMultisyncConstants.MSG_TYPE_CMD_REPLY, "A100");
+		corrupted[corrupted.length - 2] ^= 0x01;
+		Assert.assertEquals(responseValues.CHECKSUM_ERROR, NECMultisyncResponseDecoder.getReplyType(corrupted, 0, corrupted.length));
+		Assert.assertEquals(responseValues.MALFORMED, NECMultisyncResponseDecoder.getReplyType(new byte[] { 0x01, 0x30 }, 0, 2));
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NECMultisyncRttEstimatorTest for unit test of {@link NECMultisyncRttEstimator}, and of the reply timeouts of
+ * {@link NECMultisyncDevice} run against {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncRttEstimatorTest {
+
+	/**
+	 * The initial timeout is used until a reply is received, then the timeout follows the round trip time
+	 */
+	@Test
+	void testTimeoutFollowsRoundTripTime() {
+		NECMultisyncRttEstimator estimator = new NECMultisyncRttEstimator();
+		Assert.assertEquals(NECMultisyncConstants.INITIAL_REPLY_TIMEOUT, estimator.getTimeout());
+		for (int i = 0; i < 32; i++) {
+			estimator.onReply(TimeUnit.MILLISECONDS.toNanos(5));
+		}
+		Assert.assertEquals(NECMultisyncConstants.DEFAULT_MIN_REPLY_TIMEOUT, estimator.getTimeout());
+		Assert.assertEquals(5, estimator.getSmoothedRtt(), 0.01);
+		for (int i = 0; i < 32; i++) {
+			estimator.onReply(TimeUnit.MILLISECONDS.toNanos(i % 2 == 0 ? 1600 : 2000));
+		}
+		Assert.assertTrue(estimator.getTimeout() > 2000);
+		Assert.assertTrue(estimator.getTimeout() < 4000);
+	}
+
+	/**
+	 * Each missing reply doubles the timeout of its display, within the bounds configured, until the display replies.
+	 * The other displays of the chain keep the timeout of the connection.
+	 */
+	@Test
+	void testTimeoutIsBounded() {
+		NECMultisyncRttEstimator estimator = new NECMultisyncRttEstimator();
+		estimator.setBounds(100, 1000);
+		Assert.assertEquals(1000, estimator.getTimeout());
+		estimator.onReply(TimeUnit.MILLISECONDS.toNanos(20));
+		Assert.assertEquals(100, estimator.getTimeout());
+		estimator.onTimeout(0x42);
+		Assert.assertEquals(200, estimator.getTimeout(0x42));
+		for (int i = 0; i < 8; i++) {
+			estimator.onTimeout(0x42);
+		}
+		Assert.assertEquals(1000, estimator.getTimeout(0x42));
+		Assert.assertEquals(100, estimator.getTimeout(0x41));
+		Assert.assertEquals(100, estimator.getTimeout());
+		estimator.onReply(TimeUnit.MILLISECONDS.toNanos(20));
+		estimator.resetBackoff(0x42);
+		Assert.assertTrue(estimator.getTimeout(0x42) < 1000);
+	}
+
+	/**
+	 * A display off the chain of a LAN site fails within the floor of the timeout, instead of a fixed timeout
+	 */
+	@Test
+	void testDeadDisplayFailsFast() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1, 2);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.setMonitorIDs("1,2");
+			necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+			necMultisyncDevice.setMinReplyTimeout(200);
+			necMultisyncDevice.init();
+			necMultisyncDevice.getMultipleStatistics();
+			simulator.removeMonitor(2);
+			necMultisyncDevice.getMultipleStatistics();
+			long startTime = System.nanoTime();
+			necMultisyncDevice.getMultipleStatistics();
+			Assert.assertTrue(System.nanoTime() - startTime < TimeUnit.MILLISECONDS.toNanos(1500));
+			Assert.assertEquals(200, necMultisyncDevice.getRttEstimator().getTimeout(), 200);
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+
+	/**
+	 * A display behind a slow link gets more time than the initial timeout, statistics are retrieved
+	 */
+	@Test
+	void testSlowLinkGetsMoreTime() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		simulator.setNetworkDelay(NECMultisyncConstants.INITIAL_REPLY_TIMEOUT + 500);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+			necMultisyncDevice.init();
+			for (int i = 0; i < 3 && necMultisyncDevice.getRttEstimator().getSmoothedRtt() < 0; i++) {
+				try {
+					necMultisyncDevice.getMultipleStatistics();
+				} catch (Exception e) {
+					//the first replies are late for the initial timeout
+				}
+			}
+			Assert.assertTrue(necMultisyncDevice.getRttEstimator().getTimeout() > NECMultisyncConstants.INITIAL_REPLY_TIMEOUT + 500);
+			Assert.assertFalse(necMultisyncDevice.getMultipleStatistics().isEmpty());
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+}
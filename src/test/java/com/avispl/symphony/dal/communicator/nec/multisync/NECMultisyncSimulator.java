@@ -0,0 +1,608 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loopback simulator of NEC MultiSync displays speaking the external control protocol over TCP.
+ * One simulator stands for a LAN connected display, optionally heading a daisy chain of displays, and answers
+ * the opcodes polled and controlled by the adapter: power status read and control, self diagnosis, input read and
+ * control, temperature sensor select and temperature read. Frames sent to the ALL address (2Ah) are applied to
+ * every display without reply, as real displays do.
+ * <p>
+ * Latency, jitter, dropped replies, corrupted check codes and unsupported command results can be injected to test
+ * timing and failure handling. The simulator can be embedded in JUnit tests or started standalone as a load target,
+ * listening on port 7142 of the loopback interface unless told otherwise:
+ * <pre>
+ * java -cp target/test-classes:target/classes com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncSimulator
+ *     [--port=7142] [--bind=127.0.0.1] [--monitors=1-25] [--latency=ms] [--jitter=ms] [--drop=rate] [--corrupt=rate]
+ *     [--noise=rate] [--unsupported=0279,B1] [--power=1] [--input=11] [--temperature=35] [--diagnosis=00] [--report=s]
+ * </pre>
+ * Rates are probabilities from 0 to 1, input and diagnosis codes are hexadecimal, --report prints the frames received
+ * and sent every given number of seconds.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncSimulator implements AutoCloseable {
+
+	private static final byte SOH = 0x01;
+	private static final byte STX = 0x02;
+	private static final byte ETX = 0x03;
+	private static final byte CR = 0x0D;
+	private static final byte CONTROLLER = 0x30;
+	private static final byte ALL_MONITORS = 0x2A;
+	private static final int DEFAULT_PORT = 7142;
+	private static final String LOOPBACK = "127.0.0.1";
+
+	/**
+	 * State of a simulated display
+	 */
+	public static class Monitor {
+		private volatile int power = 1;
+		private volatile int input = 0x11;
+		private volatile int temperature = 35;
+		private volatile int diagnosis = 0x00;
+		private volatile int selectedSensor;
+		private volatile int switchingDelay;
+
+		public int getPower() {
+			return power;
+		}
+
+		/**
+		 * Sets the power status: 1 ON, 2 STANDBY, 3 SUSPEND, 4 OFF
+		 */
+		public Monitor setPower(int power) {
+			this.power = power;
+			return this;
+		}
+
+		public int getInput() {
+			return input;
+		}
+
+		/**
+		 * Sets the input code, e.g. 11h for HDMI1
+		 */
+		public Monitor setInput(int input) {
+			this.input = input;
+			return this;
+		}
+
+		public Monitor setTemperature(int temperature) {
+			this.temperature = temperature;
+			return this;
+		}
+
+		/**
+		 * Sets the self diagnosis code, e.g. 80h for a fan-1 abnormality
+		 */
+		public Monitor setDiagnosis(int diagnosis) {
+			this.diagnosis = diagnosis;
+			return this;
+		}
+
+		/**
+		 * Sets the time a power or input control takes before the display reports the new state
+		 */
+		public Monitor setSwitchingDelay(int switchingDelay) {
+			this.switchingDelay = switchingDelay;
+			return this;
+		}
+
+		public int getSelectedSensor() {
+			return selectedSensor;
+		}
+	}
+
+	private static final Set<String> OPTIONS = new LinkedHashSet<>(Arrays.asList("port", "bind", "monitors", "latency", "jitter", "drop",
+			"corrupt", "noise", "unsupported", "power", "input", "temperature", "diagnosis", "report"));
+
+	private final ServerSocket serverSocket;
+	private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "NECMultisync-Simulator");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final Map<Byte, Monitor> monitors = new ConcurrentHashMap<>();
+	private final Set<Socket> clients = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	private final Set<String> unsupportedOpcodes = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	private final AtomicLong receivedFrames = new AtomicLong();
+	private final AtomicLong sentFrames = new AtomicLong();
+	private final AtomicLong queuedFrames = new AtomicLong();
+	private volatile int latency;
+	private volatile int jitter;
+	private volatile double dropRate;
+	private volatile double corruptRate;
+	private volatile double noiseRate;
+	private volatile boolean pipelining = true;
+	private volatile int networkDelay;
+	private volatile int commandGap;
+	private final ScheduledExecutorService delivery = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "NECMultisync-Simulator-Network");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Starts a simulator on the loopback interface
+	 *
+	 * @param port TCP port to listen on, 0 to pick a free one
+	 * @param monitorIDs IDs of the simulated displays, 1 to 100
+	 * @throws IOException if the port can't be bound
+	 */
+	public NECMultisyncSimulator(int port, int... monitorIDs) throws IOException {
+		this(LOOPBACK, port, monitorIDs);
+	}
+
+	/**
+	 * Starts a simulator on the given interface, to be polled from other hosts
+	 *
+	 * @param bindAddress address of the interface to listen on, 0.0.0.0 for all of them
+	 * @param port TCP port to listen on, 0 to pick a free one
+	 * @param monitorIDs IDs of the simulated displays, 1 to 100
+	 * @throws IOException if the port can't be bound
+	 */
+	public NECMultisyncSimulator(String bindAddress, int port, int... monitorIDs) throws IOException {
+		for (int monitorID : monitorIDs) {
+			monitors.put((byte) (monitorID + 64), new Monitor());
+		}
+		serverSocket = new ServerSocket();
+		serverSocket.bind(new InetSocketAddress(bindAddress, port));
+		executor.execute(this::acceptLoop);
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Retrieves the state of a simulated display
+	 *
+	 * @param monitorID monitor ID, 1 to 100
+	 * @return Monitor state of the display, or null if it is not simulated
+	 */
+	public Monitor getMonitor(int monitorID) {
+		return monitors.get((byte) (monitorID + 64));
+	}
+
+	/**
+	 * Removes a display from the chain, it stops replying
+	 */
+	public void removeMonitor(int monitorID) {
+		monitors.remove((byte) (monitorID + 64));
+	}
+
+	/**
+	 * Sets the time the display takes to process a command, plus a random jitter
+	 */
+	public NECMultisyncSimulator setLatency(int latency, int jitter) {
+		this.latency = latency;
+		this.jitter = jitter;
+		return this;
+	}
+
+	/**
+	 * Sets the probability a reply is never sent
+	 */
+	public NECMultisyncSimulator setDropRate(double dropRate) {
+		this.dropRate = dropRate;
+		return this;
+	}
+
+	/**
+	 * Sets the probability a reply is sent with a wrong check code
+	 */
+	public NECMultisyncSimulator setCorruptRate(double corruptRate) {
+		this.corruptRate = corruptRate;
+		return this;
+	}
+
+	/**
+	 * Sets the probability garbage bytes are sent before a reply, as flaky serial to IP bridges do.
+	 * The garbage holds a SOH byte followed by a header without message half of the time.
+	 */
+	public NECMultisyncSimulator setNoiseRate(double noiseRate) {
+		this.noiseRate = noiseRate;
+		return this;
+	}
+
+	/**
+	 * Sets whether commands received before the previous reply was sent are processed (true) or dropped (false)
+	 */
+	public NECMultisyncSimulator setPipelining(boolean pipelining) {
+		this.pipelining = pipelining;
+		return this;
+	}
+
+	/**
+	 * Makes the display reply with an unsupported result to the given opcode
+	 *
+	 * @param opcode opcode as sent, e.g. "0279" for the temperature read or "B1" for the self diagnosis
+	 */
+	public NECMultisyncSimulator addUnsupportedOpcode(String opcode) {
+		unsupportedOpcodes.add(opcode);
+		return this;
+	}
+
+	/**
+	 * Sets the round trip time added to every reply, without delaying the processing of the next command
+	 */
+	public NECMultisyncSimulator setNetworkDelay(int networkDelay) {
+		this.networkDelay = networkDelay;
+		return this;
+	}
+
+	/**
+	 * Sets the minimum time between a reply and the next command, commands received sooner are refused with an
+	 * unsupported result, as real displays do when commands are sent too fast
+	 */
+	public NECMultisyncSimulator setCommandGap(int commandGap) {
+		this.commandGap = commandGap;
+		return this;
+	}
+
+	public long getReceivedFrames() {
+		return receivedFrames.get();
+	}
+
+	public long getSentFrames() {
+		return sentFrames.get();
+	}
+
+	/**
+	 * Retrieves the number of times a command was received while the display was busy with the previous one,
+	 * which only happens when commands are pipelined
+	 */
+	public long getQueuedFrames() {
+		return queuedFrames.get();
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+		for (Socket client : clients) {
+			client.close();
+		}
+		executor.shutdownNow();
+		delivery.shutdownNow();
+	}
+
+	private void acceptLoop() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket client = serverSocket.accept();
+				client.setTcpNoDelay(true);
+				clients.add(client);
+				executor.execute(() -> serve(client));
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void serve(Socket client) {
+		try (Socket socket = client) {
+			InputStream inputStream = socket.getInputStream();
+			OutputStream outputStream = socket.getOutputStream();
+			NECMultisyncFrameReader reader = new NECMultisyncFrameReader(inputStream);
+			long lastReply = 0;
+			while (!socket.isClosed()) {
+				byte[] frame = reader.readFrame();
+				receivedFrames.incrementAndGet();
+				boolean early = System.nanoTime() - lastReply < TimeUnit.MILLISECONDS.toNanos(commandGap);
+				sleep();
+				if (reader.getBufferedBytes() > 0 || inputStream.available() > 0) {
+					//commands received while the display is busy with this one
+					queuedFrames.incrementAndGet();
+					if (!pipelining) {
+						//a display that doesn't buffer commands drops them
+						reader.clear();
+						inputStream.skip(inputStream.available());
+					}
+				}
+				byte[] reply = process(frame, early);
+				if (reply == null || ThreadLocalRandom.current().nextDouble() < dropRate) {
+					continue;
+				}
+				if (ThreadLocalRandom.current().nextDouble() < corruptRate) {
+					reply[reply.length - 2] ^= 0x5A;
+				}
+				if (ThreadLocalRandom.current().nextDouble() < noiseRate) {
+					outputStream.write(getNoise());
+				}
+				if (networkDelay > 0) {
+					delivery.schedule(() -> {
+						try {
+							outputStream.write(reply);
+							outputStream.flush();
+							sentFrames.incrementAndGet();
+						} catch (IOException e) {
+							//connection closed
+						}
+					}, networkDelay, TimeUnit.MILLISECONDS);
+					continue;
+				}
+				outputStream.write(reply);
+				outputStream.flush();
+				sentFrames.incrementAndGet();
+				lastReply = System.nanoTime();
+			}
+		} catch (SocketException e) {
+			//client or simulator closed the connection
+		} catch (IOException e) {
+			//end of stream
+		} finally {
+			clients.remove(client);
+		}
+	}
+
+	private static byte[] getNoise() {
+		if (ThreadLocalRandom.current().nextBoolean()) {
+			return new byte[] { SOH, CONTROLLER, CONTROLLER, 0x41, 0x44, 0x30, 0x36, 0x7F, CR };
+		}
+		byte[] noise = new byte[1 + ThreadLocalRandom.current().nextInt(8)];
+		for (int i = 0; i < noise.length; i++) {
+			noise[i] = (byte) (0x02 + ThreadLocalRandom.current().nextInt(0xFE));
+		}
+		return noise;
+	}
+
+	private void sleep() {
+		int delay = latency + (jitter > 0 ? ThreadLocalRandom.current().nextInt(jitter + 1) : 0);
+		if (delay > 0) {
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Processes a frame sent by the controller
+	 *
+	 * @param early whether the frame was received too soon after the previous reply, it is then refused
+	 * @return byte[] reply frame, or null if no reply is sent
+	 */
+	private byte[] process(byte[] frame, boolean early) {
+		byte destination = frame[2];
+		byte messageType = frame[4];
+		if (frame[frame.length - 2] != NECMultisyncResponseDecoder.checksum(frame, 1, frame.length - 3)) {
+			return null;
+		}
+		String message = new String(frame, 8, frame.length - 11, StandardCharsets.US_ASCII);
+		if (destination == ALL_MONITORS) {
+			for (Monitor monitor : monitors.values()) {
+				handle(monitor, messageType, message);
+			}
+			return null;
+		}
+		Monitor monitor = monitors.get(destination);
+		if (monitor == null) {
+			return null;
+		}
+		if (early) {
+			String opcode = messageType == NECMultisyncConstants.MSG_TYPE_CMD ? message : message.substring(0, 4);
+			return buildReply(destination, (byte) (messageType + 1), "01" + opcode + "00" + "0000" + "0000");
+		}
+		String replyMessage = handle(monitor, messageType, message);
+		if (replyMessage == null) {
+			return null;
+		}
+		return buildReply(destination, (byte) (messageType + 1), replyMessage);
+	}
+
+	/**
+	 * Applies a command to a display
+	 *
+	 * @return String reply message, or null if the command is unknown
+	 */
+	private String handle(Monitor monitor, byte messageType, String message) {
+		if (messageType == NECMultisyncConstants.MSG_TYPE_CMD) {
+			if (message.equals("01D6")) {
+				return unsupportedOpcodes.contains("01D6") ? "0201D6000000" + "0000" : "0200D6000004" + hex4(monitor.power);
+			}
+			if (message.startsWith("C203D6")) {
+				if (unsupportedOpcodes.contains("C203D6")) {
+					return "01C203D6" + message.substring(6);
+				}
+				int power = Integer.parseInt(message.substring(6), 16);
+				switching(monitor, () -> monitor.power = power);
+				return "00C203D6" + message.substring(6);
+			}
+			if (message.equals("B1")) {
+				return unsupportedOpcodes.contains("B1") ? "01B1" : "A1" + hex2(monitor.diagnosis);
+			}
+			return null;
+		}
+		String opcode = message.substring(0, 4);
+		if (unsupportedOpcodes.contains(opcode)) {
+			return "01" + opcode + "00" + "0000" + "0000";
+		}
+		if (messageType == NECMultisyncConstants.MSG_TYPE_GET) {
+			switch (opcode) {
+				case "0060":
+					return "00" + opcode + "00" + "0088" + hex4(monitor.input);
+				case "0279":
+					return "00" + opcode + "00" + "FFFF" + hex4(monitor.temperature * 2);
+				case "0278":
+					return "00" + opcode + "00" + "000A" + hex4(monitor.selectedSensor);
+				default:
+					return "01" + opcode + "00" + "0000" + "0000";
+			}
+		}
+		if (messageType == NECMultisyncConstants.MSG_TYPE_SET) {
+			int value = Integer.parseInt(message.substring(4, 8), 16);
+			switch (opcode) {
+				case "0060":
+				case "1106":
+					if (monitor.power != 1) {
+						//a display in standby refuses input changes
+						return "01" + opcode + "00" + "0088" + hex4(monitor.input);
+					}
+					switching(monitor, () -> monitor.input = value);
+					return "00" + opcode + "00" + "0088" + hex4(value);
+				case "0278":
+					monitor.selectedSensor = value;
+					return "00" + opcode + "00" + "000A" + hex4(value);
+				default:
+					return "01" + opcode + "00" + "0000" + "0000";
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Applies a control to a display once its switching delay has passed
+	 */
+	private void switching(Monitor monitor, Runnable change) {
+		if (monitor.switchingDelay > 0) {
+			delivery.schedule(change, monitor.switchingDelay, TimeUnit.MILLISECONDS);
+		} else {
+			change.run();
+		}
+	}
+
+	/**
+	 * Builds a reply frame
+	 *
+	 * @param monitorID ID of the replying display (41h for monitor 1)
+	 * @param messageType type of the reply
+	 * @param message message between STX and ETX, as ASCII characters
+	 * @return byte[] reply frame
+	 */
+	static byte[] buildReply(byte monitorID, byte messageType, String message) {
+		byte[] body = message.getBytes(StandardCharsets.US_ASCII);
+		byte[] reply = new byte[body.length + 11];
+		int size = body.length + 2;
+		reply[0] = SOH;
+		reply[1] = 0x30;
+		reply[2] = CONTROLLER;
+		reply[3] = monitorID;
+		reply[4] = messageType;
+		reply[5] = (byte) Character.toUpperCase(Character.forDigit(size >> 4, 16));
+		reply[6] = (byte) Character.toUpperCase(Character.forDigit(size & 0x0F, 16));
+		reply[7] = STX;
+		System.arraycopy(body, 0, reply, 8, body.length);
+		reply[reply.length - 3] = ETX;
+		reply[reply.length - 2] = NECMultisyncResponseDecoder.checksum(reply, 1, reply.length - 3);
+		reply[reply.length - 1] = CR;
+		return reply;
+	}
+
+	private static String hex2(int value) {
+		return String.format("%02X", value & 0xFF);
+	}
+
+	private static String hex4(int value) {
+		return String.format("%04X", value & 0xFFFF);
+	}
+
+	/**
+	 * Starts a simulator configured by command line options, see the class documentation
+	 *
+	 * @param args options as --name=value
+	 * @return NECMultisyncSimulator started simulator
+	 * @throws IOException if the port can't be bound
+	 * @throws IllegalArgumentException if an option is unknown or its value invalid
+	 */
+	static NECMultisyncSimulator start(String... args) throws IOException {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (!arg.startsWith("--") || separator < 0) {
+				throw new IllegalArgumentException("Invalid option " + arg + ", expected --name=value");
+			}
+			options.put(arg.substring(2, separator), arg.substring(separator + 1).trim());
+		}
+		for (String name : options.keySet()) {
+			if (!OPTIONS.contains(name)) {
+				throw new IllegalArgumentException("Unknown option --" + name + ", expected one of " + OPTIONS);
+			}
+		}
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(options.getOrDefault("bind", LOOPBACK),
+				Integer.parseInt(options.getOrDefault("port", String.valueOf(DEFAULT_PORT))), parseMonitorIDs(options.getOrDefault("monitors", "1")));
+		simulator.setLatency(Integer.parseInt(options.getOrDefault("latency", "0")), Integer.parseInt(options.getOrDefault("jitter", "0")))
+				.setDropRate(Double.parseDouble(options.getOrDefault("drop", "0")))
+				.setCorruptRate(Double.parseDouble(options.getOrDefault("corrupt", "0")))
+				.setNoiseRate(Double.parseDouble(options.getOrDefault("noise", "0")));
+		if (options.containsKey("unsupported")) {
+			for (String opcode : options.get("unsupported").split(",")) {
+				simulator.addUnsupportedOpcode(opcode.trim().toUpperCase());
+			}
+		}
+		for (Monitor monitor : simulator.monitors.values()) {
+			monitor.setPower(Integer.parseInt(options.getOrDefault("power", "1")))
+					.setInput(Integer.parseInt(options.getOrDefault("input", "11"), 16))
+					.setTemperature(Integer.parseInt(options.getOrDefault("temperature", "35")))
+					.setDiagnosis(Integer.parseInt(options.getOrDefault("diagnosis", "00"), 16));
+		}
+		int report = Integer.parseInt(options.getOrDefault("report", "0"));
+		if (report > 0) {
+			simulator.delivery.scheduleAtFixedRate(() -> System.out.println("frames received: " + simulator.getReceivedFrames()
+					+ ", sent: " + simulator.getSentFrames() + ", connections: " + simulator.clients.size()), report, report, TimeUnit.SECONDS);
+		}
+		return simulator;
+	}
+
+	/**
+	 * Parses monitor IDs given as a list of numbers and ranges, e.g. "1,3,5-8"
+	 *
+	 * @param monitorIDs list of monitor IDs
+	 * @return int[] monitor IDs, in the given order
+	 */
+	static int[] parseMonitorIDs(String monitorIDs) {
+		Set<Integer> numbers = new LinkedHashSet<>();
+		for (String item : monitorIDs.split(",")) {
+			String[] range = item.trim().split("-");
+			int first = Integer.parseInt(range[0].trim());
+			int last = range.length > 1 ? Integer.parseInt(range[1].trim()) : first;
+			if (first < 1 || last > 100 || first > last) {
+				throw new IllegalArgumentException("Invalid monitor IDs " + item + ", expected 1 to 100");
+			}
+			for (int number = first; number <= last; number++) {
+				numbers.add(number);
+			}
+		}
+		return numbers.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Starts a standalone simulator, until the process is killed
+	 *
+	 * @param args options as --name=value, see the class documentation
+	 */
+	public static void main(String[] args) throws Exception {
+		NECMultisyncSimulator simulator = start(args);
+		int[] monitorIDs = simulator.monitors.keySet().stream().mapToInt(monitorID -> monitorID - 64).sorted().toArray();
+		System.out.println("NEC MultiSync simulator listening on " + simulator.serverSocket.getInetAddress().getHostAddress() + ":"
+				+ simulator.getPort() + " with monitor IDs " + Arrays.toString(monitorIDs));
+		Thread.currentThread().join();
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.communicator.nec.multisync.NECMultisyncConstants.responseValues;
+
+/**
+ * NECMultisyncSimulatorTest for unit test of the standalone options and the fault injection of {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncSimulatorTest {
+
+	private static responseValues query(NECMultisyncConnection connection, NECMultisyncQuery query, int monitorID) throws IOException {
+		byte[] reply = connection.exchange(query.getFrame(monitorID + 64), 500);
+		return NECMultisyncResponseDecoder.getReplyType(reply, 0, reply.length);
+	}
+
+	/**
+	 * The displays, their state and the unsupported opcodes are configured by command line options
+	 */
+	@Test
+	void testStandaloneOptions() throws Exception {
+		NECMultisyncSimulator simulator = NECMultisyncSimulator.start("--port=0", "--monitors=1,3-4", "--power=4", "--input=12",
+				"--diagnosis=80", "--unsupported=0279");
+		NECMultisyncConnection connection = new NECMultisyncConnection("127.0.0.1", simulator.getPort(), new NECMultisyncPacer(), new NECMultisyncRttEstimator());
+		try {
+			Assert.assertNull(simulator.getMonitor(2));
+			Assert.assertEquals(4, simulator.getMonitor(4).getPower());
+			Assert.assertEquals(0x12, simulator.getMonitor(3).getInput());
+			connection.open();
+			byte[] reply = connection.exchange(NECMultisyncQuery.DIAGNOSIS.getFrame(0x41), 500);
+			Assert.assertEquals(NECMultisyncConstants.diagResultNames.FAN1_ABNORMALITY, NECMultisyncResponseDecoder.getDiagResult(reply, 0));
+			Assert.assertEquals(responseValues.INPUT_STATUS_READ, query(connection, NECMultisyncQuery.INPUT, 3));
+			Assert.assertEquals(responseValues.RESULT_ERROR, query(connection, NECMultisyncQuery.TEMPERATURE, 3));
+		} finally {
+			connection.close();
+			simulator.close();
+		}
+		try {
+			NECMultisyncSimulator.start("--port=0", "--latencies=10");
+			Assert.fail("Unknown option accepted");
+		} catch (IllegalArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("--latencies"));
+		}
+		Assert.assertArrayEquals(new int[] { 5, 1, 2, 3 }, NECMultisyncSimulator.parseMonitorIDs("5,1-3,2"));
+	}
+
+	/**
+	 * Corrupted check codes and dropped replies are injected at the configured rates
+	 */
+	@Test
+	void testInjectedFaults() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		NECMultisyncConnection connection = new NECMultisyncConnection("127.0.0.1", simulator.getPort(), new NECMultisyncPacer(), new NECMultisyncRttEstimator());
+		try {
+			connection.open();
+			Assert.assertEquals(responseValues.POWER_STATUS_READ, query(connection, NECMultisyncQuery.POWER, 1));
+			simulator.setCorruptRate(1);
+			Assert.assertEquals(responseValues.CHECKSUM_ERROR, query(connection, NECMultisyncQuery.POWER, 1));
+			simulator.setCorruptRate(0).setDropRate(1);
+			try {
+				query(connection, NECMultisyncQuery.POWER, 1);
+				Assert.fail("Dropped reply received");
+			} catch (IOException e) {
+				Assert.assertEquals(simulator.getReceivedFrames() - 1, simulator.getSentFrames());
+			}
+		} finally {
+			connection.close();
+			simulator.close();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * NECMultisyncSnapshotTest for unit test of the statistics snapshot published by {@link NECMultisyncDevice},
+ * run against {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncSnapshotTest {
+	private static final int LATENCY = 400;
+
+	private NECMultisyncSimulator simulator;
+	private NECMultisyncDevice necMultisyncDevice;
+
+	@BeforeEach()
+	public void setUp() throws Exception {
+		simulator = new NECMultisyncSimulator(0, 1);
+		necMultisyncDevice = new NECMultisyncDevice();
+		necMultisyncDevice.setHost("127.0.0.1");
+		necMultisyncDevice.setPort(simulator.getPort());
+		//nothing is due after the first cycle, so a refresh never waits for the display
+		necMultisyncDevice.setRefreshIntervals("Power:600,Input:600,Diagnosis:600,Temperature:600");
+		necMultisyncDevice.init();
+	}
+
+	@AfterEach()
+	public void destroy() throws Exception {
+		necMultisyncDevice.destroy();
+		simulator.close();
+	}
+
+	private ControllableProperty power(String value) {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Power");
+		controllableProperty.setValue(value);
+		return controllableProperty;
+	}
+
+	/**
+	 * Published statistics can't be modified by a reader
+	 */
+	@Test
+	void testSnapshotIsImmutable() throws Exception {
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0);
+		Assert.assertEquals("1", extendedStatistics.getStatistics().get("Power"));
+		try {
+			extendedStatistics.getStatistics().put("Power", "0");
+			Assert.fail("Statistics of a published snapshot must not be modifiable");
+		} catch (UnsupportedOperationException e) {
+			//expected
+		}
+	}
+
+	/**
+	 * A control publishes a new snapshot, the previous one is left untouched
+	 */
+	@Test
+	void testControlPublishesNewSnapshot() throws Exception {
+		ExtendedStatistics before = (ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0);
+		necMultisyncDevice.controlProperty(power("0"));
+		ExtendedStatistics after = (ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0);
+		Assert.assertEquals("1", before.getStatistics().get("Power"));
+		Assert.assertEquals("1", before.getControllableProperties().stream().filter(acp -> acp.getName().equals("Power")).findFirst().get().getValue());
+		Assert.assertEquals("0", after.getStatistics().get("Power"));
+		Assert.assertTrue(after.getControllableProperties().stream().noneMatch(acp -> acp.getName().equals("Input")));
+	}
+
+	/**
+	 * Stress test: readers keep reading statistics while controls are in flight against a slow display.
+	 * Each control holds the device for at least {@link #LATENCY}, readers must never wait for it.
+	 */
+	@Test
+	void testReadersAreNeverBlockedByControls() throws Exception {
+		necMultisyncDevice.getMultipleStatistics();
+		simulator.setLatency(LATENCY, 0);
+
+		int readerCount = 8;
+		long duration = TimeUnit.SECONDS.toNanos(4);
+		AtomicLong maxReadTime = new AtomicLong();
+		AtomicLong reads = new AtomicLong();
+		AtomicInteger controls = new AtomicInteger();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch start = new CountDownLatch(1);
+		long deadline = System.nanoTime() + duration;
+		List<Thread> threads = new ArrayList<>();
+
+		threads.add(new Thread(() -> {
+			try {
+				start.await();
+				while (System.nanoTime() < deadline) {
+					necMultisyncDevice.controlProperty(power(controls.get() % 2 == 0 ? "0" : "1"));
+					controls.incrementAndGet();
+				}
+			} catch (Throwable e) {
+				failure.compareAndSet(null, e);
+			}
+		}));
+		for (int i = 0; i < readerCount; i++) {
+			threads.add(new Thread(() -> {
+				try {
+					start.await();
+					while (System.nanoTime() < deadline) {
+						long startTime = System.nanoTime();
+						ExtendedStatistics extendedStatistics = (ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0);
+						maxReadTime.accumulateAndGet(System.nanoTime() - startTime, Math::max);
+						reads.incrementAndGet();
+						//a snapshot is consistent: the power switch matches the power statistics
+						Map<String, String> statistics = extendedStatistics.getStatistics();
+						String power = statistics.get("Power");
+						for (AdvancedControllableProperty controllableProperty : extendedStatistics.getControllableProperties()) {
+							if (controllableProperty.getName().equals("Power") && !String.valueOf(controllableProperty.getValue()).equals(power)) {
+								throw new AssertionError("Inconsistent snapshot: Power is " + power + ", the switch is " + controllableProperty.getValue());
+							}
+						}
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			}));
+		}
+		threads.forEach(Thread::start);
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		if (failure.get() != null) {
+			throw new AssertionError(failure.get());
+		}
+		Assert.assertTrue("Controls were not run concurrently: " + controls.get(), controls.get() >= 2);
+		Assert.assertTrue("Readers were starved: " + reads.get(), reads.get() > 1000);
+		Assert.assertTrue("A reader waited " + TimeUnit.NANOSECONDS.toMillis(maxReadTime.get()) + " ms for a control",
+				maxReadTime.get() < TimeUnit.MILLISECONDS.toNanos(LATENCY / 2));
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * NECMultisyncTimeBudgetTest for unit test of the partial statistics of {@link NECMultisyncDevice}, run against
+ * {@link NECMultisyncSimulator}
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncTimeBudgetTest {
+
+	private static Map<String, String> getStatistics(NECMultisyncDevice necMultisyncDevice) throws Exception {
+		return ((ExtendedStatistics) necMultisyncDevice.getMultipleStatistics().get(0)).getStatistics();
+	}
+
+	/**
+	 * An unsupported query fails its property only, the other properties of the cycle are reported
+	 */
+	@Test
+	void testUnsupportedQueryKeepsOtherProperties() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+			necMultisyncDevice.init();
+			Assert.assertEquals(4, getStatistics(necMultisyncDevice).size());
+
+			simulator.getMonitor(1).setInput(18);
+			simulator.addUnsupportedOpcode("0279");
+			Map<String, String> statistics = getStatistics(necMultisyncDevice);
+			Assert.assertEquals("1", statistics.get("Power"));
+			Assert.assertEquals("HDMI2", statistics.get("Input"));
+			Assert.assertEquals("35", statistics.get("Temperature(C)"));
+			Assert.assertEquals("REP_RESULT_CODE_NO_ERROR", statistics.get("TemperatureError"));
+			Assert.assertNotNull(statistics.get("TemperatureLastUpdate"));
+			Assert.assertNull(statistics.get("PowerError"));
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+
+	/**
+	 * Queries that can't start within the time budget are skipped, their displays are reported from the cache
+	 */
+	@Test
+	void testCycleEndsWithinTimeBudget() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1, 2, 3);
+		simulator.setLatency(100, 0);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.setMonitorIDs("1,2,3");
+			necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+			necMultisyncDevice.init();
+			getStatistics(necMultisyncDevice);
+
+			necMultisyncDevice.setStatisticsTimeBudget(500);
+			long startTime = System.nanoTime();
+			Map<String, String> statistics = getStatistics(necMultisyncDevice);
+			Assert.assertTrue(System.nanoTime() - startTime < TimeUnit.MILLISECONDS.toNanos(800));
+			Assert.assertNull(statistics.get("Monitor1#PowerError"));
+			Assert.assertEquals(NECMultisyncConstants.TIME_BUDGET_EXCEEDED, statistics.get("Monitor3#PowerError"));
+			Assert.assertEquals("1", statistics.get("Monitor3#Power"));
+			Assert.assertEquals(NECMultisyncConstants.STATUS_ONLINE, statistics.get("Monitor3#Status"));
+
+			necMultisyncDevice.setStatisticsTimeBudget(0);
+			statistics = getStatistics(necMultisyncDevice);
+			Assert.assertNull(statistics.get("Monitor3#PowerError"));
+			Assert.assertNull(statistics.get("Monitor3#PowerLastUpdate"));
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+
+	/**
+	 * A cycle whose polling thread is interrupted is abandoned with the interrupt kept: it is neither reported as a
+	 * partial cycle nor as an unreachable display, and the next cycle is complete
+	 */
+	@Test
+	void testInterruptedCycleIsAbandoned() throws Exception {
+		NECMultisyncSimulator simulator = new NECMultisyncSimulator(0, 1);
+		NECMultisyncDevice necMultisyncDevice = new NECMultisyncDevice();
+		try {
+			necMultisyncDevice.setHost("127.0.0.1");
+			necMultisyncDevice.setPort(simulator.getPort());
+			necMultisyncDevice.setRefreshIntervals("Power:0,Input:0,Diagnosis:0,Temperature:0");
+			necMultisyncDevice.setMinReplyTimeout(2000);
+			necMultisyncDevice.init();
+			getStatistics(necMultisyncDevice);
+
+			simulator.setLatency(200, 0);
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+			AtomicBoolean interrupted = new AtomicBoolean();
+			Thread poller = new Thread(() -> {
+				try {
+					getStatistics(necMultisyncDevice);
+				} catch (Throwable e) {
+					failure.set(e);
+				}
+				interrupted.set(Thread.currentThread().isInterrupted());
+			});
+			poller.start();
+			Thread.sleep(300);
+			poller.interrupt();
+			poller.join(TimeUnit.SECONDS.toMillis(5));
+			Assert.assertFalse(poller.isAlive());
+			Assert.assertTrue(String.valueOf(failure.get()), failure.get() instanceof CancellationException);
+			Assert.assertTrue(interrupted.get());
+
+			simulator.setLatency(0, 0);
+			Map<String, String> statistics = getStatistics(necMultisyncDevice);
+			Assert.assertEquals("1", statistics.get("Power"));
+			statistics.keySet().forEach(key -> Assert.assertFalse(key, key.endsWith("Error")));
+		} finally {
+			necMultisyncDevice.destroy();
+			simulator.close();
+		}
+	}
+}
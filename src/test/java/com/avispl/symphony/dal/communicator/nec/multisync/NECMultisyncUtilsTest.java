@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.nec.multisync;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NECMultisyncUtilsTest for unit test of the NEC frame encoder and frame cache
+ *
+ * @author Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.3.0
+ */
+public class NECMultisyncUtilsTest {
+
+	/**
+	 * Verifies the get power frame sent to monitor 1, including header size and checksum
+	 */
+	@Test
+	void testBuildGetPowerFrame() {
+		byte[] expected = { 0x01, 0x30, 0x41, 0x30, 0x41, 0x30, 0x36, 0x02, 0x30, 0x31, 0x44, 0x36, 0x03, 0x74, 0x0D };
+		Assert.assertArrayEquals(expected, NECMultisyncUtils.buildSendString((byte) 0x41, NECMultisyncConstants.MSG_TYPE_CMD, NECMultisyncConstants.CMD_GET_POWER));
+	}
+
+	/**
+	 * Verifies a frame with parameters, the message size is sent as lower case hex digits
+	 */
+	@Test
+	void testBuildSetSensorFrame() {
+		byte[] expected = { 0x01, 0x30, 0x41, 0x30, 0x45, 0x30, 0x61, 0x02, 0x30, 0x32, 0x37, 0x38, 0x30, 0x30, 0x30, 0x31, 0x03, 0x58, 0x0D };
+		Assert.assertArrayEquals(expected, NECMultisyncUtils.buildSendString((byte) 0x41, NECMultisyncConstants.MSG_TYPE_SET, NECMultisyncConstants.CMD_SET_SENSOR,
+				NECMultisyncConstants.SENSOR_1));
+	}
+
+	/**
+	 * Verifies frames are encoded in place at the given offset of a reusable buffer
+	 */
+	@Test
+	void testEncodeFrameAtOffset() {
+		byte[] buffer = new byte[64];
+		int length = NECMultisyncUtils.encodeFrame(buffer, 10, (byte) 0x41, NECMultisyncConstants.MSG_TYPE_GET, NECMultisyncConstants.CMD_GET_TEMP, null);
+		byte[] expected = NECMultisyncUtils.buildSendString((byte) 0x41, NECMultisyncConstants.MSG_TYPE_GET, NECMultisyncConstants.CMD_GET_TEMP);
+		Assert.assertEquals(expected.length, length);
+		for (int i = 0; i < length; i++) {
+			Assert.assertEquals(expected[i], buffer[10 + i]);
+		}
+	}
+
+	/**
+	 * Verifies cached frames are built once per monitor and match the encoder output
+	 */
+	@Test
+	void testFrameCache() {
+		byte[] first = NECMultisyncFrameCache.getFrame((byte) 0x42, NECMultisyncConstants.MSG_TYPE_SET, NECMultisyncConstants.CMD_SET_INPUT,
+				NECMultisyncConstants.inputs.get(NECMultisyncConstants.inputNames.HDMI1));
+		byte[] second = NECMultisyncFrameCache.getFrame((byte) 0x42, NECMultisyncConstants.MSG_TYPE_SET, NECMultisyncConstants.CMD_SET_INPUT,
+				NECMultisyncConstants.inputs.get(NECMultisyncConstants.inputNames.HDMI1));
+		byte[] otherMonitor = NECMultisyncFrameCache.getFrame((byte) 0x43, NECMultisyncConstants.MSG_TYPE_SET, NECMultisyncConstants.CMD_SET_INPUT,
+				NECMultisyncConstants.inputs.get(NECMultisyncConstants.inputNames.HDMI1));
+		Assert.assertSame(first, second);
+		Assert.assertNotSame(first, otherMonitor);
+		Assert.assertArrayEquals(NECMultisyncUtils.buildSendString((byte) 0x42, NECMultisyncConstants.MSG_TYPE_SET, NECMultisyncConstants.CMD_SET_INPUT,
+				NECMultisyncConstants.inputs.get(NECMultisyncConstants.inputNames.HDMI1)), first);
+	}
+}